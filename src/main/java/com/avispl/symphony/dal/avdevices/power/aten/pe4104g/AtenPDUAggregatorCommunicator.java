@@ -0,0 +1,1112 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.collections.CollectionUtils;
+
+import com.avispl.symphony.api.dal.control.Controller;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
+import com.avispl.symphony.dal.BaseDevice;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUConnectionModeEnum;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUConstant;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUModelEnum;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUTrapListener;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Aten PDU Aggregator Communicator Adapter manages a fleet of Aten PDU devices from a single adapter instance
+ *
+ * Every PDU is monitored and controlled by its own {@link AtenPDUCommunicator} session, the sessions are polled in parallel
+ * by a bounded worker pool, the PDUs polled the longest time ago first. At most {@link #maxOpenSessions} sessions are kept open,
+ * the least recently used idle session is disconnected to open another one, and a session of a PDU which isn't requested
+ * for {@link #sessionIdleTimeout} is disconnected. A disconnected session reconnects on the next request.
+ * The notifications of all PDUs are received on a single {@link #trapListenerPort} and routed by their source address.
+ *
+ * Supported feature are:
+ * Monitoring Aggregator Device:
+ *  <ul>
+ *  <li> MonitoredDevicesTotal </li>
+ *  <li> OnlineDevices </li>
+ *  <li> LastPollDuration(ms) </li>
+ *  <ul>
+ *
+ * Aggregated Device: the monitoring and controlling properties of {@link AtenPDUCommunicator}
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUAggregatorCommunicator extends BaseDevice implements Aggregator, Monitorable, Controller {
+
+	/**
+	 * Sessions by device id in the configured order, the device id is the configured host:port of the PDU,
+	 * the map is immutable and replaced on init and destroy
+	 */
+	private volatile Map<String, PDUSession> sessions = Collections.emptyMap();
+
+	/**
+	 * Latest aggregated devices by device id, a published aggregated device is never modified,
+	 * see {@link #publishAggregatedDevice(String, AggregatedDevice)}
+	 */
+	private final Map<String, AggregatedDevice> aggregatedDevices = new ConcurrentHashMap<>();
+
+	/**
+	 * Worker pool polling the PDUs
+	 */
+	private ExecutorService pollingExecutor;
+
+	/**
+	 * Listener of the notifications of all PDUs when {@link #trapListenerPort} is configured, null otherwise
+	 */
+	private AtenPDUTrapListener trapListener;
+
+	/**
+	 * Lock guarding the use counts of the sessions and the opening of sessions within {@link #maxOpenSessions}
+	 */
+	private final Object sessionLock = new Object();
+
+	/**
+	 * Duration of the last poll in milliseconds
+	 */
+	private volatile long lastPollDuration;
+
+	/**
+	 * Login of the PDUs
+	 */
+	private String login;
+
+	/**
+	 * Password of the PDUs
+	 */
+	private String password;
+
+	/**
+	 * Configurable property of the PDUs to manage, comma separated host, host:port or [IPv6 address]:port,
+	 * only the adapter host if it's empty. An invalid entry is skipped
+	 */
+	private String pduHosts = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the maximum number of PDUs polled in parallel
+	 */
+	private String pollingThreads = String.valueOf(AtenPDUConstant.DEFAULT_POLLING_THREADS);
+
+	/**
+	 * Configurable property of the time in milliseconds after which an unused SSH session is disconnected
+	 */
+	private String sessionIdleTimeout = String.valueOf(AtenPDUConstant.DEFAULT_SESSION_IDLE_TIMEOUT);
+
+	/**
+	 * Configurable property of the maximum number of open sessions, 0 means every PDU keeps its session open
+	 */
+	private String maxOpenSessions = String.valueOf(AtenPDUConstant.DEFAULT_MAX_OPEN_SESSIONS);
+
+	/**
+	 * Configurable property of the time budget in milliseconds of a poll of all PDUs
+	 */
+	private String monitoringDeadline = String.valueOf(AtenPDUConstant.DEFAULT_MONITORING_DEADLINE);
+
+	/**
+	 * Configurable property of the model of every PDU, see {@link AtenPDUCommunicator#setPduModel(String)}
+	 */
+	private String pduModel = AtenPDUModelEnum.PE4104G.getName();
+
+	/**
+	 * Configurable property of the connection mode of every PDU, see {@link AtenPDUCommunicator#setConnectionMode(String)},
+	 * the SNMP settings of the aggregator are used for every PDU
+	 */
+	private String connectionMode = AtenPDUConnectionModeEnum.SSH.getName();
+
+	/**
+	 * Configurable property of the Telnet port of every PDU, see {@link AtenPDUCommunicator#setTelnetPort(String)}
+	 */
+	private String telnetPort = String.valueOf(AtenPDUConstant.DEFAULT_TELNET_PORT);
+
+	/**
+	 * Configurable property to retrieve the power readings of every PDU, see {@link AtenPDUCommunicator#setPowerMetering(String)}
+	 */
+	private String powerMetering = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property of the outlets excluded on every PDU, see {@link AtenPDUCommunicator#setExcludedOutlets(String)}
+	 */
+	private String excludedOutlets = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the polling multipliers of every PDU, see {@link AtenPDUCommunicator#setPollingMultipliers(String)}
+	 */
+	private String pollingMultipliers = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property to read the outlet statuses of every PDU with a single request, see {@link AtenPDUCommunicator#setBulkStatusRead(String)}
+	 */
+	private String bulkStatusRead = AtenPDUConstant.TRUE;
+
+	/**
+	 * Configurable property to queue the controls of every PDU, see {@link AtenPDUCommunicator#setControlQueue(String)}
+	 */
+	private String controlQueue = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property of the directory of the control journals, every PDU keeps its own journal file in it,
+	 * see {@link AtenPDUCommunicator#setControlJournalDirectory(String)}
+	 */
+	private String controlJournalDirectory = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the directory of the snapshots, every PDU keeps its own snapshot file in it,
+	 * see {@link AtenPDUCommunicator#setSnapshotDirectory(String)}
+	 */
+	private String snapshotDirectory = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property to keep the session of every PDU alive, see {@link AtenPDUCommunicator#setSessionManagement(String)}
+	 */
+	private String sessionManagement = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property to publish the adapter metrics of every PDU, see {@link AtenPDUCommunicator#setAdapterMetrics(String)}
+	 */
+	private String adapterMetrics = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property of the local UDP port receiving the notifications of all PDUs, the PDUs share a single socket.
+	 * No notification is received if it's empty, see {@link AtenPDUCommunicator#setTrapListenerPort(String)}
+	 */
+	private String trapListenerPort = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the community of the notifications of every PDU, see {@link AtenPDUCommunicator#setTrapCommunity(String)}
+	 */
+	private String trapCommunity = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the interval of the full polls of every PDU while the notifications are received,
+	 * see {@link AtenPDUCommunicator#setTrapReconciliationInterval(String)}
+	 */
+	private String trapReconciliationInterval = String.valueOf(AtenPDUConstant.DEFAULT_TRAP_RECONCILIATION_INTERVAL);
+
+	/**
+	 * Retrieves {@link #login}
+	 *
+	 * @return value of {@link #login}
+	 */
+	public String getLogin() {
+		return login;
+	}
+
+	/**
+	 * Sets {@link #login} value
+	 *
+	 * @param login new value of {@link #login}
+	 */
+	public void setLogin(String login) {
+		this.login = login;
+	}
+
+	/**
+	 * Retrieves {@link #password}
+	 *
+	 * @return value of {@link #password}
+	 */
+	public String getPassword() {
+		return password;
+	}
+
+	/**
+	 * Sets {@link #password} value
+	 *
+	 * @param password new value of {@link #password}
+	 */
+	public void setPassword(String password) {
+		this.password = password;
+	}
+
+	/**
+	 * Retrieves {@link #pduHosts}
+	 *
+	 * @return value of {@link #pduHosts}
+	 */
+	public String getPduHosts() {
+		return pduHosts;
+	}
+
+	/**
+	 * Sets {@link #pduHosts} value
+	 *
+	 * @param pduHosts new value of {@link #pduHosts}
+	 */
+	public void setPduHosts(String pduHosts) {
+		this.pduHosts = pduHosts;
+	}
+
+	/**
+	 * Retrieves {@link #pollingThreads}
+	 *
+	 * @return value of {@link #pollingThreads}
+	 */
+	public String getPollingThreads() {
+		return pollingThreads;
+	}
+
+	/**
+	 * Sets {@link #pollingThreads} value
+	 *
+	 * @param pollingThreads new value of {@link #pollingThreads}
+	 */
+	public void setPollingThreads(String pollingThreads) {
+		this.pollingThreads = pollingThreads;
+	}
+
+	/**
+	 * Retrieves {@link #sessionIdleTimeout}
+	 *
+	 * @return value of {@link #sessionIdleTimeout}
+	 */
+	public String getSessionIdleTimeout() {
+		return sessionIdleTimeout;
+	}
+
+	/**
+	 * Sets {@link #sessionIdleTimeout} value
+	 *
+	 * @param sessionIdleTimeout new value of {@link #sessionIdleTimeout}
+	 */
+	public void setSessionIdleTimeout(String sessionIdleTimeout) {
+		this.sessionIdleTimeout = sessionIdleTimeout;
+	}
+
+	/**
+	 * Retrieves {@link #maxOpenSessions}
+	 *
+	 * @return value of {@link #maxOpenSessions}
+	 */
+	public String getMaxOpenSessions() {
+		return maxOpenSessions;
+	}
+
+	/**
+	 * Sets {@link #maxOpenSessions} value
+	 *
+	 * @param maxOpenSessions new value of {@link #maxOpenSessions}
+	 */
+	public void setMaxOpenSessions(String maxOpenSessions) {
+		this.maxOpenSessions = maxOpenSessions;
+	}
+
+	/**
+	 * Retrieves {@link #monitoringDeadline}
+	 *
+	 * @return value of {@link #monitoringDeadline}
+	 */
+	public String getMonitoringDeadline() {
+		return monitoringDeadline;
+	}
+
+	/**
+	 * Sets {@link #monitoringDeadline} value
+	 *
+	 * @param monitoringDeadline new value of {@link #monitoringDeadline}
+	 */
+	public void setMonitoringDeadline(String monitoringDeadline) {
+		this.monitoringDeadline = monitoringDeadline;
+	}
+
+	/**
+	 * Retrieves {@link #pduModel}
+	 *
+	 * @return value of {@link #pduModel}
+	 */
+	public String getPduModel() {
+		return pduModel;
+	}
+
+	/**
+	 * Sets {@link #pduModel} value
+	 *
+	 * @param pduModel new value of {@link #pduModel}
+	 */
+	public void setPduModel(String pduModel) {
+		this.pduModel = pduModel;
+	}
+
+	/**
+	 * Retrieves {@link #connectionMode}
+	 *
+	 * @return value of {@link #connectionMode}
+	 */
+	public String getConnectionMode() {
+		return connectionMode;
+	}
+
+	/**
+	 * Sets {@link #connectionMode} value
+	 *
+	 * @param connectionMode new value of {@link #connectionMode}
+	 */
+	public void setConnectionMode(String connectionMode) {
+		this.connectionMode = connectionMode;
+	}
+
+	/**
+	 * Retrieves {@link #telnetPort}
+	 *
+	 * @return value of {@link #telnetPort}
+	 */
+	public String getTelnetPort() {
+		return telnetPort;
+	}
+
+	/**
+	 * Sets {@link #telnetPort} value
+	 *
+	 * @param telnetPort new value of {@link #telnetPort}
+	 */
+	public void setTelnetPort(String telnetPort) {
+		this.telnetPort = telnetPort;
+	}
+
+	/**
+	 * Retrieves {@link #powerMetering}
+	 *
+	 * @return value of {@link #powerMetering}
+	 */
+	public String getPowerMetering() {
+		return powerMetering;
+	}
+
+	/**
+	 * Sets {@link #powerMetering} value
+	 *
+	 * @param powerMetering new value of {@link #powerMetering}
+	 */
+	public void setPowerMetering(String powerMetering) {
+		this.powerMetering = powerMetering;
+	}
+
+	/**
+	 * Retrieves {@link #excludedOutlets}
+	 *
+	 * @return value of {@link #excludedOutlets}
+	 */
+	public String getExcludedOutlets() {
+		return excludedOutlets;
+	}
+
+	/**
+	 * Sets {@link #excludedOutlets} value
+	 *
+	 * @param excludedOutlets new value of {@link #excludedOutlets}
+	 */
+	public void setExcludedOutlets(String excludedOutlets) {
+		this.excludedOutlets = excludedOutlets;
+	}
+
+	/**
+	 * Retrieves {@link #pollingMultipliers}
+	 *
+	 * @return value of {@link #pollingMultipliers}
+	 */
+	public String getPollingMultipliers() {
+		return pollingMultipliers;
+	}
+
+	/**
+	 * Sets {@link #pollingMultipliers} value
+	 *
+	 * @param pollingMultipliers new value of {@link #pollingMultipliers}
+	 */
+	public void setPollingMultipliers(String pollingMultipliers) {
+		this.pollingMultipliers = pollingMultipliers;
+	}
+
+	/**
+	 * Retrieves {@link #bulkStatusRead}
+	 *
+	 * @return value of {@link #bulkStatusRead}
+	 */
+	public String getBulkStatusRead() {
+		return bulkStatusRead;
+	}
+
+	/**
+	 * Sets {@link #bulkStatusRead} value
+	 *
+	 * @param bulkStatusRead new value of {@link #bulkStatusRead}
+	 */
+	public void setBulkStatusRead(String bulkStatusRead) {
+		this.bulkStatusRead = bulkStatusRead;
+	}
+
+	/**
+	 * Retrieves {@link #controlQueue}
+	 *
+	 * @return value of {@link #controlQueue}
+	 */
+	public String getControlQueue() {
+		return controlQueue;
+	}
+
+	/**
+	 * Sets {@link #controlQueue} value
+	 *
+	 * @param controlQueue new value of {@link #controlQueue}
+	 */
+	public void setControlQueue(String controlQueue) {
+		this.controlQueue = controlQueue;
+	}
+
+	/**
+	 * Retrieves {@link #controlJournalDirectory}
+	 *
+	 * @return value of {@link #controlJournalDirectory}
+	 */
+	public String getControlJournalDirectory() {
+		return controlJournalDirectory;
+	}
+
+	/**
+	 * Sets {@link #controlJournalDirectory} value
+	 *
+	 * @param controlJournalDirectory new value of {@link #controlJournalDirectory}
+	 */
+	public void setControlJournalDirectory(String controlJournalDirectory) {
+		this.controlJournalDirectory = controlJournalDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #sessionManagement}
+	 *
+	 * @return value of {@link #sessionManagement}
+	 */
+	public String getSessionManagement() {
+		return sessionManagement;
+	}
+
+	/**
+	 * Sets {@link #sessionManagement} value
+	 *
+	 * @param sessionManagement new value of {@link #sessionManagement}
+	 */
+	public void setSessionManagement(String sessionManagement) {
+		this.sessionManagement = sessionManagement;
+	}
+
+	/**
+	 * Retrieves {@link #adapterMetrics}
+	 *
+	 * @return value of {@link #adapterMetrics}
+	 */
+	public String getAdapterMetrics() {
+		return adapterMetrics;
+	}
+
+	/**
+	 * Sets {@link #adapterMetrics} value
+	 *
+	 * @param adapterMetrics new value of {@link #adapterMetrics}
+	 */
+	public void setAdapterMetrics(String adapterMetrics) {
+		this.adapterMetrics = adapterMetrics;
+	}
+
+	/**
+	 * Retrieves {@link #trapListenerPort}
+	 *
+	 * @return value of {@link #trapListenerPort}
+	 */
+	public String getTrapListenerPort() {
+		return trapListenerPort;
+	}
+
+	/**
+	 * Sets {@link #trapListenerPort} value
+	 *
+	 * @param trapListenerPort new value of {@link #trapListenerPort}
+	 */
+	public void setTrapListenerPort(String trapListenerPort) {
+		this.trapListenerPort = trapListenerPort;
+	}
+
+	/**
+	 * Retrieves {@link #trapCommunity}
+	 *
+	 * @return value of {@link #trapCommunity}
+	 */
+	public String getTrapCommunity() {
+		return trapCommunity;
+	}
+
+	/**
+	 * Sets {@link #trapCommunity} value
+	 *
+	 * @param trapCommunity new value of {@link #trapCommunity}
+	 */
+	public void setTrapCommunity(String trapCommunity) {
+		this.trapCommunity = trapCommunity;
+	}
+
+	/**
+	 * Retrieves {@link #trapReconciliationInterval}
+	 *
+	 * @return value of {@link #trapReconciliationInterval}
+	 */
+	public String getTrapReconciliationInterval() {
+		return trapReconciliationInterval;
+	}
+
+	/**
+	 * Sets {@link #trapReconciliationInterval} value
+	 *
+	 * @param trapReconciliationInterval new value of {@link #trapReconciliationInterval}
+	 */
+	public void setTrapReconciliationInterval(String trapReconciliationInterval) {
+		this.trapReconciliationInterval = trapReconciliationInterval;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		super.internalInit();
+		int threadCount = (int) AtenPDUCommunicator.getPropertyValue(pollingThreads, AtenPDUConstant.DEFAULT_POLLING_THREADS, 1);
+		AtomicInteger threadIndex = new AtomicInteger();
+		pollingExecutor = Executors.newFixedThreadPool(threadCount, runnable -> {
+			Thread thread = new Thread(runnable, "AtenPDU aggregator poll " + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (!StringUtils.isNullOrEmpty(trapListenerPort)) {
+			openTrapListener();
+		}
+		Map<String, PDUSession> newSessions = new LinkedHashMap<>();
+		try {
+			String hosts = StringUtils.isNullOrEmpty(pduHosts) ? host : pduHosts;
+			for (String pduHost : hosts.split(AtenPDUConstant.HOST_SEPARATOR)) {
+				String deviceId = pduHost.trim();
+				if (StringUtils.isNullOrEmpty(deviceId) || newSessions.containsKey(deviceId)) {
+					continue;
+				}
+				InetSocketAddress address = parseDeviceAddress(deviceId);
+				if (address == null) {
+					logger.warn(String.format("The PDU host %s is skipped, expected host, host:port or [IPv6 address]:port", deviceId));
+					continue;
+				}
+				newSessions.put(deviceId, new PDUSession(createCommunicator(address)));
+			}
+		} catch (Exception e) {
+			for (PDUSession session : newSessions.values()) {
+				session.communicator.destroy();
+			}
+			pollingExecutor.shutdownNow();
+			pollingExecutor = null;
+			closeTrapListener();
+			throw e;
+		}
+		sessions = Collections.unmodifiableMap(newSessions);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (pollingExecutor != null) {
+			pollingExecutor.shutdownNow();
+			pollingExecutor = null;
+		}
+		Map<String, PDUSession> oldSessions = sessions;
+		sessions = Collections.emptyMap();
+		for (PDUSession session : oldSessions.values()) {
+			session.communicator.destroy();
+		}
+		closeTrapListener();
+		aggregatedDevices.clear();
+		super.internalDestroy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		Map<String, String> stats = new HashMap<>();
+		int onlineDevices = 0;
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices.values()) {
+			if (Boolean.TRUE.equals(aggregatedDevice.getDeviceOnline())) {
+				onlineDevices++;
+			}
+		}
+		stats.put(AtenPDUConstant.MONITORED_DEVICES_TOTAL, String.valueOf(sessions.size()));
+		stats.put(AtenPDUConstant.ONLINE_DEVICES, String.valueOf(onlineDevices));
+		stats.put(AtenPDUConstant.LAST_POLL_DURATION, String.valueOf(lastPollDuration));
+		extendedStatistics.setStatistics(stats);
+		return Collections.singletonList(extendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		return retrieveMultipleStatistics(new ArrayList<>(sessions.keySet()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The PDUs are polled in parallel by at most {@link #pollingThreads} workers within {@link #monitoringDeadline},
+	 * a PDU which can't be polled within the deadline is reported offline with its last known statistics and is polled
+	 * first by the next request, so the same PDUs aren't always left over when the deadline is too short for all of them.
+	 * The results are published by the requesting thread only, a poll completing after the deadline is dropped
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> deviceIds) throws Exception {
+		if (pollingExecutor == null) {
+			return Collections.emptyList();
+		}
+		long startTime = System.currentTimeMillis();
+		Map<String, PDUSession> currentSessions = sessions;
+		List<String> polledDeviceIds = new ArrayList<>(deviceIds.size());
+		for (String deviceId : deviceIds) {
+			if (currentSessions.containsKey(deviceId) && !polledDeviceIds.contains(deviceId)) {
+				polledDeviceIds.add(deviceId);
+			}
+		}
+		// the stable sort keeps the configured order between the PDUs polled successfully at the same time
+		polledDeviceIds.sort(Comparator.comparingLong(deviceId -> currentSessions.get(deviceId).lastSuccess));
+		List<Callable<AggregatedDevice>> polls = new ArrayList<>(polledDeviceIds.size());
+		for (String deviceId : polledDeviceIds) {
+			PDUSession session = currentSessions.get(deviceId);
+			polls.add(() -> pollDevice(deviceId, session));
+		}
+		long deadline = AtenPDUCommunicator.getPropertyValue(monitoringDeadline, AtenPDUConstant.DEFAULT_MONITORING_DEADLINE, 1);
+		List<Future<AggregatedDevice>> results = pollingExecutor.invokeAll(polls, deadline, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < results.size(); i++) {
+			String deviceId = polledDeviceIds.get(i);
+			PDUSession session = currentSessions.get(deviceId);
+			AggregatedDevice aggregatedDevice;
+			try {
+				aggregatedDevice = results.get(i).get();
+			} catch (CancellationException e) {
+				logger.warn(String.format("Error when poll device %s, the monitoring deadline is exceeded", deviceId));
+				aggregatedDevice = null;
+			} catch (ExecutionException e) {
+				logger.error(String.format("Error when poll device %s", deviceId), e.getCause());
+				aggregatedDevice = null;
+			}
+			if (aggregatedDevice == null) {
+				aggregatedDevice = createOfflineDevice(deviceId, session);
+			} else {
+				session.lastSuccess = System.currentTimeMillis();
+			}
+			publishAggregatedDevice(deviceId, aggregatedDevice);
+		}
+		lastPollDuration = System.currentTimeMillis() - startTime;
+		evictIdleSessions(System.currentTimeMillis());
+
+		List<AggregatedDevice> result = new ArrayList<>(deviceIds.size());
+		for (String deviceId : deviceIds) {
+			AggregatedDevice aggregatedDevice = aggregatedDevices.get(deviceId);
+			if (aggregatedDevice != null) {
+				result.add(aggregatedDevice);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		String deviceId = controllableProperty.getDeviceId();
+		PDUSession session = StringUtils.isNullOrEmpty(deviceId) ? null : sessions.get(deviceId);
+		if (session == null) {
+			throw new IllegalArgumentException(String.format("Error when control %s, unknown device %s", controllableProperty.getProperty(), deviceId));
+		}
+		acquireSession(deviceId, session);
+		try {
+			session.communicator.controlProperty(controllableProperty);
+			// the controlled value is delivered from the snapshot without waiting for the device
+			publishAggregatedDevice(deviceId, retrieveAggregatedDevice(deviceId, session));
+		} finally {
+			releaseSession(session);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The controls of every PDU are sent even if the controls of another PDU failed
+	 *
+	 * @throws IllegalArgumentException if the controls of any PDU failed
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> list) throws Exception {
+		if (CollectionUtils.isEmpty(list)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		Map<String, PDUSession> currentSessions = sessions;
+		Map<String, List<ControllableProperty>> controlsByDevice = new LinkedHashMap<>();
+		for (ControllableProperty controllableProperty : list) {
+			String deviceId = controllableProperty.getDeviceId();
+			if (StringUtils.isNullOrEmpty(deviceId) || !currentSessions.containsKey(deviceId)) {
+				throw new IllegalArgumentException(String.format("Error when control %s, unknown device %s", controllableProperty.getProperty(), deviceId));
+			}
+			controlsByDevice.computeIfAbsent(deviceId, key -> new ArrayList<>()).add(controllableProperty);
+		}
+		List<String> failedDevices = new ArrayList<>();
+		for (Map.Entry<String, List<ControllableProperty>> controls : controlsByDevice.entrySet()) {
+			PDUSession session = currentSessions.get(controls.getKey());
+			acquireSession(controls.getKey(), session);
+			try {
+				session.communicator.controlProperties(controls.getValue());
+				publishAggregatedDevice(controls.getKey(), retrieveAggregatedDevice(controls.getKey(), session));
+			} catch (Exception e) {
+				logger.error(String.format("Error when control device %s", controls.getKey()), e);
+				failedDevices.add(controls.getKey());
+			} finally {
+				releaseSession(session);
+			}
+		}
+		if (!failedDevices.isEmpty()) {
+			throw new IllegalArgumentException(String.format("Error when control devices %s", failedDevices));
+		}
+	}
+
+	/**
+	 * Poll a PDU, the result is published by the requesting thread
+	 *
+	 * @param deviceId id of the device
+	 * @param session session of the device
+	 * @return the aggregated device, null if the PDU can't be polled
+	 */
+	private AggregatedDevice pollDevice(String deviceId, PDUSession session) {
+		acquireSession(deviceId, session);
+		try {
+			return retrieveAggregatedDevice(deviceId, session);
+		} catch (Exception e) {
+			logger.error(String.format("Error when poll device %s", deviceId), e);
+			return null;
+		} finally {
+			releaseSession(session);
+		}
+	}
+
+	/**
+	 * Create the offline aggregated device of a PDU with its last known statistics
+	 *
+	 * @param deviceId id of the device
+	 * @param session session of the device
+	 * @return the aggregated device
+	 */
+	private AggregatedDevice createOfflineDevice(String deviceId, PDUSession session) {
+		AggregatedDevice aggregatedDevice = createAggregatedDevice(deviceId, session);
+		AggregatedDevice lastDevice = aggregatedDevices.get(deviceId);
+		if (lastDevice != null) {
+			aggregatedDevice.setProperties(lastDevice.getProperties());
+			aggregatedDevice.setControllableProperties(lastDevice.getControllableProperties());
+			aggregatedDevice.setTimestamp(lastDevice.getTimestamp());
+		}
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Retrieve the statistics of a PDU as a new online aggregated device
+	 *
+	 * @param deviceId id of the device
+	 * @param session session of the device
+	 * @return the aggregated device
+	 * @throws Exception if the statistics can't be retrieved
+	 */
+	private AggregatedDevice retrieveAggregatedDevice(String deviceId, PDUSession session) throws Exception {
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) session.communicator.getMultipleStatistics().get(0);
+		AggregatedDevice aggregatedDevice = createAggregatedDevice(deviceId, session);
+		aggregatedDevice.setDeviceOnline(true);
+		aggregatedDevice.setProperties(extendedStatistics.getStatistics());
+		aggregatedDevice.setControllableProperties(extendedStatistics.getControllableProperties());
+		aggregatedDevice.setTimestamp(System.currentTimeMillis());
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Publish the aggregated device of a PDU, it replaces the previous one which is left unchanged
+	 *
+	 * @param deviceId id of the device
+	 * @param aggregatedDevice the aggregated device
+	 */
+	private void publishAggregatedDevice(String deviceId, AggregatedDevice aggregatedDevice) {
+		aggregatedDevices.put(deviceId, aggregatedDevice);
+	}
+
+	/**
+	 * Create an aggregated device without statistics
+	 *
+	 * @param deviceId id of the device
+	 * @param session session of the device
+	 * @return the aggregated device
+	 */
+	private AggregatedDevice createAggregatedDevice(String deviceId, PDUSession session) {
+		String modelName = session.communicator.getResolvedModel().getName();
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(deviceId);
+		aggregatedDevice.setDeviceName(modelName + " " + deviceId);
+		aggregatedDevice.setDeviceMake(AtenPDUConstant.DEVICE_MAKE);
+		aggregatedDevice.setDeviceModel(modelName);
+		aggregatedDevice.setCategory(AtenPDUConstant.DEVICE_CATEGORY);
+		aggregatedDevice.setDeviceOnline(false);
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Mark a session in use, when opening it would exceed {@link #maxOpenSessions} the least recently used idle sessions
+	 * are disconnected first, the limit is exceeded only while every open session is in use
+	 *
+	 * @param deviceId id of the device
+	 * @param session session of the device
+	 */
+	private void acquireSession(String deviceId, PDUSession session) {
+		int maxSessions = (int) AtenPDUCommunicator.getPropertyValue(maxOpenSessions, AtenPDUConstant.DEFAULT_MAX_OPEN_SESSIONS, 0);
+		synchronized (sessionLock) {
+			session.useCount++;
+			session.lastUsed = System.currentTimeMillis();
+			if (maxSessions == 0 || session.communicator.isChannelConnected()) {
+				return;
+			}
+			List<Map.Entry<String, PDUSession>> idleSessions = new ArrayList<>();
+			int openSessions = 0;
+			for (Map.Entry<String, PDUSession> openSession : sessions.entrySet()) {
+				if (openSession.getValue().communicator.isChannelConnected()) {
+					openSessions++;
+					if (openSession.getValue().useCount == 0) {
+						idleSessions.add(openSession);
+					}
+				}
+			}
+			idleSessions.sort(Comparator.comparingLong(idleSession -> idleSession.getValue().lastUsed));
+			for (int i = 0; i < idleSessions.size() && openSessions >= maxSessions; i++, openSessions--) {
+				disconnectSession(idleSessions.get(i).getKey(), idleSessions.get(i).getValue());
+			}
+			if (openSessions >= maxSessions) {
+				logger.debug(String.format("Every open session is in use, the session of %s exceeds the maximum of %d open sessions", deviceId, maxSessions));
+			}
+		}
+	}
+
+	/**
+	 * Mark a session no longer in use
+	 *
+	 * @param session session of the device
+	 */
+	private void releaseSession(PDUSession session) {
+		synchronized (sessionLock) {
+			session.useCount--;
+		}
+	}
+
+	/**
+	 * Disconnect the idle sessions of the PDUs not requested for longer than {@link #sessionIdleTimeout}
+	 *
+	 * @param now current time in milliseconds
+	 */
+	private void evictIdleSessions(long now) {
+		long idleTimeout = AtenPDUCommunicator.getPropertyValue(sessionIdleTimeout, AtenPDUConstant.DEFAULT_SESSION_IDLE_TIMEOUT, 0);
+		synchronized (sessionLock) {
+			for (Map.Entry<String, PDUSession> session : sessions.entrySet()) {
+				if (session.getValue().useCount == 0 && now - session.getValue().lastUsed > idleTimeout) {
+					disconnectSession(session.getKey(), session.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Disconnect the session of a PDU, it reconnects on the next request
+	 *
+	 * @param deviceId id of the device
+	 * @param session session of the device
+	 */
+	private void disconnectSession(String deviceId, PDUSession session) {
+		try {
+			session.communicator.disconnect();
+		} catch (Exception e) {
+			logger.debug(String.format("Error when disconnect idle session %s", deviceId), e);
+		}
+	}
+
+	/**
+	 * Parse the address of a PDU, a host with more than one colon is an IPv6 address without port
+	 *
+	 * @param deviceId host, host:port or [IPv6 address]:port of the PDU
+	 * @return the unresolved address of the PDU, null if it isn't valid
+	 */
+	private static InetSocketAddress parseDeviceAddress(String deviceId) {
+		String deviceHost = deviceId;
+		String devicePort = null;
+		if (deviceId.startsWith(AtenPDUConstant.IPV6_HOST_START)) {
+			int hostEnd = deviceId.indexOf(AtenPDUConstant.IPV6_HOST_END);
+			if (hostEnd < 0) {
+				return null;
+			}
+			deviceHost = deviceId.substring(1, hostEnd);
+			String remainder = deviceId.substring(hostEnd + 1);
+			if (!remainder.isEmpty()) {
+				if (!remainder.startsWith(AtenPDUConstant.PORT_SEPARATOR)) {
+					return null;
+				}
+				devicePort = remainder.substring(1);
+			}
+		} else {
+			int portIndex = deviceId.indexOf(AtenPDUConstant.PORT_SEPARATOR);
+			if (portIndex >= 0 && portIndex == deviceId.lastIndexOf(AtenPDUConstant.PORT_SEPARATOR)) {
+				deviceHost = deviceId.substring(0, portIndex);
+				devicePort = deviceId.substring(portIndex + 1);
+			}
+		}
+		int port = AtenPDUConstant.DEFAULT_SSH_PORT;
+		if (devicePort != null) {
+			try {
+				port = Integer.parseInt(devicePort.trim());
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		if (StringUtils.isNullOrEmpty(deviceHost.trim()) || port < 1 || port > AtenPDUConstant.MAX_PORT) {
+			return null;
+		}
+		return InetSocketAddress.createUnresolved(deviceHost.trim(), port);
+	}
+
+	/**
+	 * Create the communicator of a PDU
+	 *
+	 * @param address the unresolved address of the PDU
+	 * @return the initialized communicator
+	 * @throws Exception if the communicator can't be initialized
+	 */
+	private AtenPDUCommunicator createCommunicator(InetSocketAddress address) throws Exception {
+		AtenPDUCommunicator communicator = new AtenPDUCommunicator();
+		communicator.setHost(address.getHostString());
+		communicator.setPort(address.getPort());
+		communicator.setLogin(login);
+		communicator.setPassword(password);
+		communicator.setMonitoringDeadline(monitoringDeadline);
+		communicator.setPduModel(pduModel);
+		communicator.setConnectionMode(connectionMode);
+		communicator.setTelnetPort(telnetPort);
+		communicator.setPowerMetering(powerMetering);
+		communicator.setExcludedOutlets(excludedOutlets);
+		communicator.setPollingMultipliers(pollingMultipliers);
+		communicator.setBulkStatusRead(bulkStatusRead);
+		communicator.setControlQueue(controlQueue);
+		communicator.setControlJournalDirectory(controlJournalDirectory);
+		communicator.setSnapshotDirectory(snapshotDirectory);
+		communicator.setSessionManagement(sessionManagement);
+		communicator.setAdapterMetrics(adapterMetrics);
+		communicator.setTrapCommunity(trapCommunity);
+		communicator.setTrapReconciliationInterval(trapReconciliationInterval);
+		communicator.setSharedTrapListener(trapListener);
+		communicator.setSnmpVersion(getSnmpVersion());
+		communicator.setSnmpPort(getSnmpPort());
+		communicator.setSnmpCommunity(getSnmpCommunity());
+		communicator.setSnmpTimeout(getSnmpTimeout());
+		communicator.init();
+		return communicator;
+	}
+
+	/**
+	 * Open the listener shared by all PDUs, no notification is received if it can't be opened
+	 */
+	private void openTrapListener() {
+		AtenPDUTrapListener listener = new AtenPDUTrapListener();
+		try {
+			listener.open((int) AtenPDUCommunicator.getPropertyValue(trapListenerPort, 0, 0));
+			trapListener = listener;
+		} catch (IOException e) {
+			logger.error("Error when open the notification listener on port " + trapListenerPort + " " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Close the listener shared by all PDUs
+	 */
+	private void closeTrapListener() {
+		if (trapListener == null) {
+			return;
+		}
+		try {
+			trapListener.close();
+		} catch (IOException e) {
+			logger.debug("Error when close the notification listener " + e.getMessage());
+		}
+		trapListener = null;
+	}
+
+	/**
+	 * SSH session of a PDU with its use count, last use time and last successful poll time
+	 */
+	private static class PDUSession {
+		private final AtenPDUCommunicator communicator;
+		private volatile long lastUsed = System.currentTimeMillis();
+		private volatile long lastSuccess;
+		private int useCount;
+
+		/**
+		 * Constructor for PDUSession class
+		 *
+		 * @param communicator the communicator of the PDU
+		 */
+		PDUSession(AtenPDUCommunicator communicator) {
+			this.communicator = communicator;
+		}
+	}
+}
@@ -7,33 +7,79 @@ package com.avispl.symphony.dal.avdevices.power.aten.pe4104g;
 import static com.avispl.symphony.dal.util.ControllablePropertyFactory.createButton;
 import static com.avispl.symphony.dal.util.ControllablePropertyFactory.createSwitch;
 
+import java.io.IOException;
 import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.security.auth.login.FailedLoginException;
 import org.apache.commons.collections.CollectionUtils;
+import org.snmp4j.smi.VariableBinding;
 
 import com.avispl.symphony.api.dal.control.Controller;
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUCircuitBreaker;
 import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUCommand;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUConnectionModeEnum;
 import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUConstant;
-import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUPropertiesEnum;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUControlJournal;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDULatencyHistogram;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUMetricEnum;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUModel;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUModelEnum;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUMonitoringCommand;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUReconnectBackoff;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUResponseParser;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUSnapshotFile;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUSnmpObjects;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUSnmpTransport;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUStatisticsSnapshot;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUTimeSeries;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUTransport;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUTrapListener;
 import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.OutletStatusEnum;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.PingModeEnum;
+import com.avispl.symphony.dal.communicator.ShellCommunicator;
 import com.avispl.symphony.dal.communicator.SshCommunicator;
+import com.avispl.symphony.dal.communicator.TelnetCommunicator;
+import com.avispl.symphony.dal.util.IcmpUtils;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -41,11 +87,12 @@ import com.avispl.symphony.dal.util.StringUtils;
  *
  * Supported feature are:
  *
+ * Monitoring Capabilities:
+ * Current(A), Voltage(V), Power(W), Energy(kWh) of the device
+ * Outlet1#Current(A) ... OutletN#Energy(kWh) of every outlet
+ *
  * Controlling Capabilities:
- * OutletStatus1 - On/Off
- * OutletStatus2 - On/Off
- * OutletStatus3 - On/Off
- * OutletStatus4 - On/Off
+ * Outlet1 ... OutletN - On/Off, N being the number of outlets of the configured or discovered model
  * Reboot
  *
  * @author Kevin / Symphony Dev Team<br>
@@ -57,223 +104,2986 @@ public class AtenPDUCommunicator extends SshCommunicator implements Monitorable,
 	/**
 	 * cache to store key and value
 	 */
-	private final Map<String, String> cacheKeyAndValue = new HashMap<>();
+	private final Map<String, String> cacheKeyAndValue = new ConcurrentHashMap<>();
 
 	/**
 	 * count the failed command
 	 */
 	private final Map<String, String> failedMonitor = new HashMap<>();
 
+	/**
+	 * Health of every monitoring command by command index, used while holding {@link #reentrantLock}
+	 */
+	private AtenPDUCircuitBreaker[] circuitBreakers = new AtenPDUCircuitBreaker[0];
+
 	/**
 	 * Prevent case where {@link AtenPDUCommunicator#controlProperty(ControllableProperty)} slow down -
-	 * the getMultipleStatistics interval if it's fail to execute the cmd
+	 * the getMultipleStatistics interval if it's fail to execute the cmd, default of {@link #controlDeadline}
 	 */
 	private static final int controlSSHTimeout = 3000;
 
 	/**
-	 * Set back to default timeout value in {@link SshCommunicator}
+	 * Default timeout value in {@link SshCommunicator}, used outside of a monitoring or control operation
+	 * and as the maximum timeout of a single request
 	 */
 	private static final int statisticsSSHTimeout = 30000;
 
+	/**
+	 * Absolute deadline of the monitoring or control operation running on the current thread
+	 */
+	private final ThreadLocal<Long> operationDeadline = new ThreadLocal<>();
+
+	/**
+	 * Latency and error histograms of the measured operations
+	 */
+	private final Map<AtenPDUMetricEnum, AtenPDULatencyHistogram> metrics = new EnumMap<>(AtenPDUMetricEnum.class);
+
+	/**
+	 * Model of the device with its monitoring commands, the power metering commands are included if {@link #powerMetering} is enabled
+	 */
+	private volatile AtenPDUModel model = new AtenPDUModel(AtenPDUModelEnum.PE4104G, false);
+
+	/**
+	 * True until the model is discovered by the first poll when {@link #pduModel} is {@link AtenPDUConstant#AUTO_MODEL},
+	 * used while holding {@link #reentrantLock}
+	 */
+	private boolean isModelDiscoveryPending;
+
+	/**
+	 * Monitoring command types whose history is kept when {@link #trendWindows} is configured
+	 */
+	private static final Set<AtenPDUCommand> TREND_COMMANDS = Collections.unmodifiableSet(EnumSet.of(AtenPDUCommand.OUTLET_STATUS,
+			AtenPDUCommand.DEVICE_POWER, AtenPDUCommand.OUTLET_POWER));
+
+	/**
+	 * Sample history of the outlet states and power readings by command index, null for the commands without trend,
+	 * used while holding {@link #reentrantLock}
+	 */
+	private AtenPDUTimeSeries[] trendSeries = new AtenPDUTimeSeries[0];
+
+	/**
+	 * Trend windows in milliseconds parsed from {@link #trendWindows}
+	 */
+	private long[] trendWindowValues = new long[0];
+
+	/**
+	 * Outlets parsed from {@link #excludedOutlets}
+	 */
+	private Set<Integer> excludedOutletValues = Collections.emptySet();
+
+	/**
+	 * Polling interval multipliers by property name parsed from {@link #pollingMultipliers}
+	 */
+	private Map<String, Integer> pollingMultiplierValues = Collections.emptyMap();
+
+	/**
+	 * Polling interval multiplier by command index, empty if every command is polled every cycle,
+	 * used while holding {@link #reentrantLock}
+	 */
+	private int[] commandPollingMultipliers = new int[0];
+
+	/**
+	 * Number of polls since the adapter is initialized, used while holding {@link #reentrantLock}
+	 */
+	private long pollCount;
+
+	/**
+	 * Indexes of the monitoring commands not due during the current poll because of their polling interval multiplier
+	 */
+	private final BitSet skippedMonitor = new BitSet();
+
+	/**
+	 * Indexes of the monitoring commands not sent during the current poll because the monitoring deadline is exceeded
+	 */
+	private final BitSet staleMonitor = new BitSet();
+
 	/**
 	 * ReentrantLock to prevent telnet session is closed when adapter is retrieving statistics from the device.
 	 */
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
 	/**
-	 * Store previous/current ExtendedStatistics
+	 * Store previous/current statistics as an immutable snapshot, swapped atomically on every change
+	 */
+	private final AtomicReference<AtenPDUStatisticsSnapshot> statisticsSnapshot = new AtomicReference<>();
+
+	/**
+	 * Names of the monitored properties whose value changed during the current poll, used while holding {@link #reentrantLock}
+	 */
+	private final Set<String> changedMonitor = new LinkedHashSet<>();
+
+	/**
+	 * Device statistics built by the last poll with a change, reused as long as nothing changes,
+	 * used while holding {@link #reentrantLock}
+	 */
+	private Map<String, String> deviceStatistics;
+
+	/**
+	 * Controllable properties built by the last poll with an outlet change, used while holding {@link #reentrantLock}
+	 */
+	private List<AdvancedControllableProperty> deviceControls = Collections.emptyList();
+
+	/**
+	 * Model {@link #deviceStatistics} were built for, used while holding {@link #reentrantLock}
+	 */
+	private AtenPDUModel deviceStatisticsModel;
+
+	/**
+	 * Value of {@link #controlVersion} when {@link #deviceStatistics} were built, used while holding {@link #reentrantLock}
+	 */
+	private long deviceStatisticsControlVersion;
+
+	/**
+	 * Incremented by every control updating the published values, the device statistics are rebuilt by the next poll
+	 */
+	private volatile long controlVersion;
+
+	/**
+	 * Time in milliseconds of the last poll which found a changed value, 0 if none
+	 */
+	private long lastChangeTime;
+
+	/**
+	 * Comma separated names of the properties changed by the poll at {@link #lastChangeTime}
+	 */
+	private String lastChangedProperties = AtenPDUConstant.EMPTY;
+
+	/**
+	 * File persisting the last known values when {@link #snapshotDirectory} is configured, null otherwise
+	 */
+	private AtenPDUSnapshotFile snapshotFile;
+
+	/**
+	 * Values last written to {@link #snapshotFile}, used while holding {@link #reentrantLock}
+	 */
+	private Map<String, String> persistedValues = Collections.emptyMap();
+
+	/**
+	 * Journal of the controls when {@link #controlJournalDirectory} is configured, null otherwise
+	 */
+	private volatile AtenPDUControlJournal controlJournal;
+
+	/**
+	 * Controls found unfinished in {@link #controlJournal} at init by property, reconciled with the outlet states
+	 * by the first poll retrieving them, used while holding {@link #reentrantLock}
+	 */
+	private final Map<String, AtenPDUControlJournal.Entry> recoveredControls = new LinkedHashMap<>();
+
+	/**
+	 * Thread running the first poll after the persisted snapshot is restored
+	 */
+	private Thread warmStartThread;
+
+	/**
+	 * True while the first poll after the persisted snapshot is restored is running,
+	 * the restored snapshot is returned immediately in the meantime
+	 */
+	private volatile boolean isWarmStartRunning;
+
+	/**
+	 * Error of the last background refresh, null if it succeeded
+	 */
+	private volatile Exception lastRefreshError;
+
+	/**
+	 * Thread refreshing the statistics when {@link #backgroundRefresh} is enabled
+	 */
+	private ScheduledExecutorService refreshExecutor;
+
+	/**
+	 * Thread keeping the session open when {@link #sessionManagement} is enabled
+	 */
+	private ScheduledExecutorService sessionExecutor;
+
+	/**
+	 * Backoff of the attempts to reopen the session when {@link #sessionManagement} is enabled, null otherwise
+	 */
+	private volatile AtenPDUReconnectBackoff reconnectBackoffValue;
+
+	/**
+	 * Time in milliseconds of the last request answered through the session
+	 */
+	private volatile long lastSessionActivity;
+
+	/**
+	 * isEmergencyDelivery to check if control flow is trigger
+	 */
+	private volatile boolean isEmergencyDelivery;
+
+	/**
+	 * True once the session or the ping failed since the last successful poll, the statistics kept up to date by
+	 * the notifications aren't served without polling the device then
+	 */
+	private volatile boolean isSnapshotStale;
+
+	/**
+	 * Number of prompts expected before the response read by the current thread is considered complete,
+	 * more than one when several commands are written to the shell in a single request
+	 */
+	private final ThreadLocal<Integer> expectedPromptCount = ThreadLocal.withInitial(() -> 1);
+
+	/**
+	 * Lock of the control channel when {@link #dedicatedControlChannel} is enabled
+	 */
+	private final ReentrantLock controlLock = new ReentrantLock();
+
+	/**
+	 * Lock held while the session is reopened, the session is reopened in background by {@link #maintainSession(long)}
+	 * without holding {@link #reentrantLock}
+	 */
+	private final ReentrantLock reconnectLock = new ReentrantLock();
+
+	/**
+	 * Transport used instead of SSH when {@link #connectionMode} isn't SSH, null otherwise
+	 */
+	private volatile AtenPDUTransport transport;
+
+	/**
+	 * Listener of the notifications of the device when {@link #trapListenerPort} is configured or
+	 * {@link #sharedTrapListener} is set, null otherwise
+	 */
+	private volatile AtenPDUTrapListener trapListener;
+
+	/**
+	 * Listener shared by the devices of {@link AtenPDUAggregatorCommunicator}, the device subscribes to it instead of
+	 * opening its own listener, null otherwise
+	 */
+	private AtenPDUTrapListener sharedTrapListener;
+
+	/**
+	 * Address of the device the notifications are accepted from
+	 */
+	private InetAddress trapSource;
+
+	/**
+	 * Thread applying the notifications received by {@link #trapListener} in their arrival order, so the listener thread
+	 * doesn't wait for a running poll
+	 */
+	private volatile ExecutorService notificationExecutor;
+
+	/**
+	 * SNMP objects of the monitoring commands, shared by {@link #transport} and {@link #trapListener}
+	 */
+	private AtenPDUSnmpObjects snmpObjects;
+
+	/**
+	 * Telnet session every command is sent through when {@link #connectionMode} is Telnet, null otherwise
+	 */
+	private volatile TelnetChannel telnetChannel;
+
+	/**
+	 * Second session used only for the control commands when {@link #dedicatedControlChannel} is enabled, null otherwise,
+	 * it's a Telnet session when {@link #connectionMode} is Telnet
+	 */
+	private volatile ShellCommunicator controlChannel;
+
+	/**
+	 * Configurable property of the model of the device, one of {@link AtenPDUModelEnum} or {@link AtenPDUConstant#AUTO_MODEL}
+	 * to discover the number of outlets at the first poll
+	 */
+	private String pduModel = AtenPDUModelEnum.PE4104G.getName();
+
+	/**
+	 * Configurable property of the local UDP port receiving the SNMP traps and informs of the device, the outlet states and
+	 * meters they carry are published immediately. No notification is received if it's empty
+	 */
+	private String trapListenerPort = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the community of the notifications, the SNMP community of the device is used if it's empty
+	 */
+	private String trapCommunity = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the interval in milliseconds of the full polls while the notifications are received,
+	 * the statistics kept up to date by the notifications are returned in between
+	 */
+	private String trapReconciliationInterval = String.valueOf(AtenPDUConstant.DEFAULT_TRAP_RECONCILIATION_INTERVAL);
+
+	/**
+	 * Configurable property of the way the monitoring and control requests are exchanged with the device, one of
+	 * {@link AtenPDUConnectionModeEnum}. The SNMP version, port, community and timeout are the SNMP settings of the device,
+	 * the commands SNMP can't resolve, the model discovery and the reboot use SSH. In Telnet mode every command uses
+	 * the Telnet session opened on {@link #telnetPort} instead of SSH
+	 */
+	private String connectionMode = AtenPDUConnectionModeEnum.SSH.getName();
+
+	/**
+	 * Configurable property of the Telnet port of the device, used when {@link #connectionMode} is Telnet
+	 */
+	private String telnetPort = String.valueOf(AtenPDUConstant.DEFAULT_TELNET_PORT);
+
+	/**
+	 * Configurable property of the SNMP v3 user
+	 */
+	private String snmpSecurityName = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the SNMP v3 SHA authentication passphrase, empty for no authentication
+	 */
+	private String snmpAuthPassphrase = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the SNMP v3 AES-128 privacy passphrase, empty for no privacy
+	 */
+	private String snmpPrivPassphrase = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the comma separated SNMP objects replacing the default ones in the form command:oid,
+	 * e.g. "OUTLET_STATUS:1.3.6.1.4.1.21317.1.3.2.2.2.2.1.1.2". The command is one of {@link AtenPDUCommand}, the outlet number
+	 * is appended to the object of a per-outlet command and an empty object leaves the command to SSH
+	 */
+	private String snmpOids = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the directory where the last known values are persisted on every poll and restored at init,
+	 * nothing is persisted if it's empty
+	 */
+	private String snapshotDirectory = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the directory of the journal recording every control when it's requested and completed,
+	 * the controls left unfinished by a restart are reconciled by the first poll. No journal is kept if it's empty
+	 */
+	private String controlJournalDirectory = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the number of backup files kept when the control journal is rotated at
+	 * {@link AtenPDUConstant#CONTROL_JOURNAL_MAX_SIZE} bytes, the rotated journal is deleted if it's 0
+	 */
+	private String controlJournalBackups = String.valueOf(AtenPDUConstant.DEFAULT_CONTROL_JOURNAL_BACKUPS);
+
+	/**
+	 * Configurable property of the comma separated outlets neither monitored nor controlled
+	 */
+	private String excludedOutlets = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the comma separated polling interval multipliers in the form property:multiplier,
+	 * e.g. "Energy(kWh):10" polls the energy of the device and of every outlet once every 10 polls.
+	 * The property is either the full name or the name following the group of an outlet property
+	 */
+	private String pollingMultipliers = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property to retrieve the current, voltage, power and energy readings of the device and its outlets,
+	 * disabled by default as it adds 4 meter commands for the device and for every outlet to each poll
+	 */
+	private String powerMetering = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property of the comma separated windows in milliseconds over which the trends of the outlet states
+	 * and power readings are published, no trend is kept if it's empty
+	 */
+	private String trendWindows = AtenPDUConstant.EMPTY;
+
+	/**
+	 * Configurable property of the number of samples kept by every trend
+	 */
+	private String trendBufferSize = String.valueOf(AtenPDUConstant.DEFAULT_TREND_BUFFER_SIZE);
+
+	/**
+	 * Round-trip time in milliseconds of the last successful request to the device, -1 if none
+	 */
+	private volatile long lastRoundTrip = -1;
+
+	/**
+	 * Time in milliseconds {@link #lastRoundTrip} was measured
+	 */
+	private volatile long lastRoundTripTime;
+
+	/**
+	 * Configurable property of the way {@link #ping()} measures the latency, one of {@link PingModeEnum}
+	 */
+	private String pingMode = PingModeEnum.TCP.getName();
+
+	/**
+	 * Configurable property to send the control commands through a second SSH session,
+	 * so controls don't wait for the poll running on the monitoring session
+	 */
+	private String dedicatedControlChannel = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property to read all outlet statuses with a single request to the device
+	 */
+	private String bulkStatusRead = AtenPDUConstant.TRUE;
+
+	/**
+	 * Configurable property to queue controls and return immediately instead of waiting for the device
+	 */
+	private String controlQueue = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property to refresh the statistics in background and serve the latest snapshot immediately
+	 */
+	private String backgroundRefresh = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property of the background refresh interval in milliseconds
+	 */
+	private String backgroundRefreshInterval = String.valueOf(AtenPDUConstant.DEFAULT_BACKGROUND_REFRESH_INTERVAL);
+
+	/**
+	 * Configurable property to keep the session open in background: an idle session is kept alive with an empty command,
+	 * a dropped session is reopened before the next poll and the attempts to reopen a failing session are spaced by
+	 * {@link #reconnectBackoff}
+	 */
+	private String sessionManagement = AtenPDUConstant.FALSE;
+
+	/**
+	 * Configurable property of the time in milliseconds the session can stay idle before a keepalive is sent
+	 */
+	private String sessionKeepaliveInterval = String.valueOf(AtenPDUConstant.DEFAULT_SESSION_KEEPALIVE_INTERVAL);
+
+	/**
+	 * Configurable property of the time in milliseconds before the session is reopened after a failure,
+	 * doubled after every consecutive failure and randomized by up to half
+	 */
+	private String reconnectBackoff = String.valueOf(AtenPDUConstant.DEFAULT_RECONNECT_BACKOFF);
+
+	/**
+	 * Configurable property of the number of consecutive failures opening the circuit breaker of a monitoring command
+	 */
+	private String circuitBreakerThreshold = String.valueOf(AtenPDUConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD);
+
+	/**
+	 * Configurable property of the time in milliseconds a monitoring command is skipped once its circuit breaker is open,
+	 * doubled after every failed probe
+	 */
+	private String circuitBreakerBackoff = String.valueOf(AtenPDUConstant.DEFAULT_CIRCUIT_BREAKER_BACKOFF);
+
+	/**
+	 * Configurable property of the end-to-end deadline of a poll in milliseconds, the outlets not retrieved
+	 * within the deadline keep their previous value and are listed as stale
+	 */
+	private String monitoringDeadline = String.valueOf(AtenPDUConstant.DEFAULT_MONITORING_DEADLINE);
+
+	/**
+	 * Configurable property of the end-to-end deadline of a control in milliseconds
+	 */
+	private String controlDeadline = String.valueOf(controlSSHTimeout);
+
+	/**
+	 * Configurable property to publish the latency and error summaries of the adapter operations as statistics,
+	 * every poll reports the operations measured since the previous poll
+	 */
+	private String adapterMetrics = AtenPDUConstant.FALSE;
+
+	/**
+	 * Pending controls by property in submission order, guarded by its own monitor
+	 */
+	private final Map<String, PendingControl> pendingControls = new LinkedHashMap<>();
+
+	/**
+	 * Thread draining {@link #pendingControls} while no poll is running
+	 */
+	private ExecutorService controlExecutor;
+
+	/**
+	 * Retrieves {@link #trapListenerPort}
+	 *
+	 * @return value of {@link #trapListenerPort}
+	 */
+	public String getTrapListenerPort() {
+		return trapListenerPort;
+	}
+
+	/**
+	 * Sets {@link #trapListenerPort} value
+	 *
+	 * @param trapListenerPort new value of {@link #trapListenerPort}
+	 */
+	public void setTrapListenerPort(String trapListenerPort) {
+		this.trapListenerPort = trapListenerPort;
+	}
+
+	/**
+	 * Sets {@link #sharedTrapListener} value
+	 *
+	 * @param sharedTrapListener new value of {@link #sharedTrapListener}
+	 */
+	void setSharedTrapListener(AtenPDUTrapListener sharedTrapListener) {
+		this.sharedTrapListener = sharedTrapListener;
+	}
+
+	/**
+	 * Retrieves {@link #trapCommunity}
+	 *
+	 * @return value of {@link #trapCommunity}
+	 */
+	public String getTrapCommunity() {
+		return trapCommunity;
+	}
+
+	/**
+	 * Sets {@link #trapCommunity} value
+	 *
+	 * @param trapCommunity new value of {@link #trapCommunity}
+	 */
+	public void setTrapCommunity(String trapCommunity) {
+		this.trapCommunity = trapCommunity;
+	}
+
+	/**
+	 * Retrieves {@link #trapReconciliationInterval}
+	 *
+	 * @return value of {@link #trapReconciliationInterval}
+	 */
+	public String getTrapReconciliationInterval() {
+		return trapReconciliationInterval;
+	}
+
+	/**
+	 * Sets {@link #trapReconciliationInterval} value
+	 *
+	 * @param trapReconciliationInterval new value of {@link #trapReconciliationInterval}
+	 */
+	public void setTrapReconciliationInterval(String trapReconciliationInterval) {
+		this.trapReconciliationInterval = trapReconciliationInterval;
+	}
+
+	/**
+	 * Retrieves {@link #connectionMode}
+	 *
+	 * @return value of {@link #connectionMode}
+	 */
+	public String getConnectionMode() {
+		return connectionMode;
+	}
+
+	/**
+	 * Sets {@link #connectionMode} value
+	 *
+	 * @param connectionMode new value of {@link #connectionMode}
+	 */
+	public void setConnectionMode(String connectionMode) {
+		this.connectionMode = connectionMode;
+	}
+
+	/**
+	 * Retrieves {@link #telnetPort}
+	 *
+	 * @return value of {@link #telnetPort}
+	 */
+	public String getTelnetPort() {
+		return telnetPort;
+	}
+
+	/**
+	 * Sets {@link #telnetPort} value
+	 *
+	 * @param telnetPort new value of {@link #telnetPort}
+	 */
+	public void setTelnetPort(String telnetPort) {
+		this.telnetPort = telnetPort;
+	}
+
+	/**
+	 * Retrieves {@link #snmpSecurityName}
+	 *
+	 * @return value of {@link #snmpSecurityName}
+	 */
+	public String getSnmpSecurityName() {
+		return snmpSecurityName;
+	}
+
+	/**
+	 * Sets {@link #snmpSecurityName} value
+	 *
+	 * @param snmpSecurityName new value of {@link #snmpSecurityName}
+	 */
+	public void setSnmpSecurityName(String snmpSecurityName) {
+		this.snmpSecurityName = snmpSecurityName;
+	}
+
+	/**
+	 * Retrieves {@link #snmpAuthPassphrase}
+	 *
+	 * @return value of {@link #snmpAuthPassphrase}
+	 */
+	public String getSnmpAuthPassphrase() {
+		return snmpAuthPassphrase;
+	}
+
+	/**
+	 * Sets {@link #snmpAuthPassphrase} value
+	 *
+	 * @param snmpAuthPassphrase new value of {@link #snmpAuthPassphrase}
+	 */
+	public void setSnmpAuthPassphrase(String snmpAuthPassphrase) {
+		this.snmpAuthPassphrase = snmpAuthPassphrase;
+	}
+
+	/**
+	 * Retrieves {@link #snmpPrivPassphrase}
+	 *
+	 * @return value of {@link #snmpPrivPassphrase}
+	 */
+	public String getSnmpPrivPassphrase() {
+		return snmpPrivPassphrase;
+	}
+
+	/**
+	 * Sets {@link #snmpPrivPassphrase} value
+	 *
+	 * @param snmpPrivPassphrase new value of {@link #snmpPrivPassphrase}
+	 */
+	public void setSnmpPrivPassphrase(String snmpPrivPassphrase) {
+		this.snmpPrivPassphrase = snmpPrivPassphrase;
+	}
+
+	/**
+	 * Retrieves {@link #snmpOids}
+	 *
+	 * @return value of {@link #snmpOids}
+	 */
+	public String getSnmpOids() {
+		return snmpOids;
+	}
+
+	/**
+	 * Sets {@link #snmpOids} value
+	 *
+	 * @param snmpOids new value of {@link #snmpOids}
+	 */
+	public void setSnmpOids(String snmpOids) {
+		this.snmpOids = snmpOids;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #controlJournalDirectory}
+	 *
+	 * @return value of {@link #controlJournalDirectory}
+	 */
+	public String getControlJournalDirectory() {
+		return controlJournalDirectory;
+	}
+
+	/**
+	 * Sets {@link #controlJournalDirectory} value
+	 *
+	 * @param controlJournalDirectory new value of {@link #controlJournalDirectory}
+	 */
+	public void setControlJournalDirectory(String controlJournalDirectory) {
+		this.controlJournalDirectory = controlJournalDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #controlJournalBackups}
+	 *
+	 * @return value of {@link #controlJournalBackups}
+	 */
+	public String getControlJournalBackups() {
+		return controlJournalBackups;
+	}
+
+	/**
+	 * Sets {@link #controlJournalBackups} value
+	 *
+	 * @param controlJournalBackups new value of {@link #controlJournalBackups}
+	 */
+	public void setControlJournalBackups(String controlJournalBackups) {
+		this.controlJournalBackups = controlJournalBackups;
+	}
+
+	/**
+	 * Retrieves {@link #excludedOutlets}
+	 *
+	 * @return value of {@link #excludedOutlets}
+	 */
+	public String getExcludedOutlets() {
+		return excludedOutlets;
+	}
+
+	/**
+	 * Sets {@link #excludedOutlets} value
+	 *
+	 * @param excludedOutlets new value of {@link #excludedOutlets}
+	 */
+	public void setExcludedOutlets(String excludedOutlets) {
+		this.excludedOutlets = excludedOutlets;
+	}
+
+	/**
+	 * Retrieves {@link #pollingMultipliers}
+	 *
+	 * @return value of {@link #pollingMultipliers}
+	 */
+	public String getPollingMultipliers() {
+		return pollingMultipliers;
+	}
+
+	/**
+	 * Sets {@link #pollingMultipliers} value
+	 *
+	 * @param pollingMultipliers new value of {@link #pollingMultipliers}
+	 */
+	public void setPollingMultipliers(String pollingMultipliers) {
+		this.pollingMultipliers = pollingMultipliers;
+	}
+
+	/**
+	 * Retrieves {@link #pduModel}
+	 *
+	 * @return value of {@link #pduModel}
+	 */
+	public String getPduModel() {
+		return pduModel;
+	}
+
+	/**
+	 * Sets {@link #pduModel} value
+	 *
+	 * @param pduModel new value of {@link #pduModel}
+	 */
+	public void setPduModel(String pduModel) {
+		this.pduModel = pduModel;
+	}
+
+	/**
+	 * Retrieves {@link #bulkStatusRead}
+	 *
+	 * @return value of {@link #bulkStatusRead}
+	 */
+	public String getBulkStatusRead() {
+		return bulkStatusRead;
+	}
+
+	/**
+	 * Sets {@link #bulkStatusRead} value
+	 *
+	 * @param bulkStatusRead new value of {@link #bulkStatusRead}
+	 */
+	public void setBulkStatusRead(String bulkStatusRead) {
+		this.bulkStatusRead = bulkStatusRead;
+	}
+
+	/**
+	 * Retrieves {@link #controlQueue}
+	 *
+	 * @return value of {@link #controlQueue}
+	 */
+	public String getControlQueue() {
+		return controlQueue;
+	}
+
+	/**
+	 * Sets {@link #controlQueue} value
+	 *
+	 * @param controlQueue new value of {@link #controlQueue}
+	 */
+	public void setControlQueue(String controlQueue) {
+		this.controlQueue = controlQueue;
+	}
+
+	/**
+	 * Retrieves {@link #backgroundRefresh}
+	 *
+	 * @return value of {@link #backgroundRefresh}
+	 */
+	public String getBackgroundRefresh() {
+		return backgroundRefresh;
+	}
+
+	/**
+	 * Sets {@link #backgroundRefresh} value
+	 *
+	 * @param backgroundRefresh new value of {@link #backgroundRefresh}
+	 */
+	public void setBackgroundRefresh(String backgroundRefresh) {
+		this.backgroundRefresh = backgroundRefresh;
+	}
+
+	/**
+	 * Retrieves {@link #backgroundRefreshInterval}
+	 *
+	 * @return value of {@link #backgroundRefreshInterval}
+	 */
+	public String getBackgroundRefreshInterval() {
+		return backgroundRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #backgroundRefreshInterval} value
+	 *
+	 * @param backgroundRefreshInterval new value of {@link #backgroundRefreshInterval}
+	 */
+	public void setBackgroundRefreshInterval(String backgroundRefreshInterval) {
+		this.backgroundRefreshInterval = backgroundRefreshInterval;
+	}
+
+	/**
+	 * Retrieves {@link #sessionManagement}
+	 *
+	 * @return value of {@link #sessionManagement}
+	 */
+	public String getSessionManagement() {
+		return sessionManagement;
+	}
+
+	/**
+	 * Sets {@link #sessionManagement} value
+	 *
+	 * @param sessionManagement new value of {@link #sessionManagement}
+	 */
+	public void setSessionManagement(String sessionManagement) {
+		this.sessionManagement = sessionManagement;
+	}
+
+	/**
+	 * Retrieves {@link #sessionKeepaliveInterval}
+	 *
+	 * @return value of {@link #sessionKeepaliveInterval}
+	 */
+	public String getSessionKeepaliveInterval() {
+		return sessionKeepaliveInterval;
+	}
+
+	/**
+	 * Sets {@link #sessionKeepaliveInterval} value
+	 *
+	 * @param sessionKeepaliveInterval new value of {@link #sessionKeepaliveInterval}
+	 */
+	public void setSessionKeepaliveInterval(String sessionKeepaliveInterval) {
+		this.sessionKeepaliveInterval = sessionKeepaliveInterval;
+	}
+
+	/**
+	 * Retrieves {@link #reconnectBackoff}
+	 *
+	 * @return value of {@link #reconnectBackoff}
+	 */
+	public String getReconnectBackoff() {
+		return reconnectBackoff;
+	}
+
+	/**
+	 * Sets {@link #reconnectBackoff} value
+	 *
+	 * @param reconnectBackoff new value of {@link #reconnectBackoff}
+	 */
+	public void setReconnectBackoff(String reconnectBackoff) {
+		this.reconnectBackoff = reconnectBackoff;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerThreshold}
+	 *
+	 * @return value of {@link #circuitBreakerThreshold}
+	 */
+	public String getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerThreshold} value
+	 *
+	 * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+	 */
+	public void setCircuitBreakerThreshold(String circuitBreakerThreshold) {
+		this.circuitBreakerThreshold = circuitBreakerThreshold;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerBackoff}
+	 *
+	 * @return value of {@link #circuitBreakerBackoff}
+	 */
+	public String getCircuitBreakerBackoff() {
+		return circuitBreakerBackoff;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerBackoff} value
+	 *
+	 * @param circuitBreakerBackoff new value of {@link #circuitBreakerBackoff}
+	 */
+	public void setCircuitBreakerBackoff(String circuitBreakerBackoff) {
+		this.circuitBreakerBackoff = circuitBreakerBackoff;
+	}
+
+	/**
+	 * Retrieves {@link #monitoringDeadline}
+	 *
+	 * @return value of {@link #monitoringDeadline}
+	 */
+	public String getMonitoringDeadline() {
+		return monitoringDeadline;
+	}
+
+	/**
+	 * Sets {@link #monitoringDeadline} value
+	 *
+	 * @param monitoringDeadline new value of {@link #monitoringDeadline}
+	 */
+	public void setMonitoringDeadline(String monitoringDeadline) {
+		this.monitoringDeadline = monitoringDeadline;
+	}
+
+	/**
+	 * Retrieves {@link #controlDeadline}
+	 *
+	 * @return value of {@link #controlDeadline}
+	 */
+	public String getControlDeadline() {
+		return controlDeadline;
+	}
+
+	/**
+	 * Sets {@link #controlDeadline} value
+	 *
+	 * @param controlDeadline new value of {@link #controlDeadline}
+	 */
+	public void setControlDeadline(String controlDeadline) {
+		this.controlDeadline = controlDeadline;
+	}
+
+	/**
+	 * Retrieves {@link #adapterMetrics}
+	 *
+	 * @return value of {@link #adapterMetrics}
+	 */
+	public String getAdapterMetrics() {
+		return adapterMetrics;
+	}
+
+	/**
+	 * Sets {@link #adapterMetrics} value
+	 *
+	 * @param adapterMetrics new value of {@link #adapterMetrics}
+	 */
+	public void setAdapterMetrics(String adapterMetrics) {
+		this.adapterMetrics = adapterMetrics;
+	}
+
+	/**
+	 * Retrieves {@link #powerMetering}
+	 *
+	 * @return value of {@link #powerMetering}
+	 */
+	public String getPowerMetering() {
+		return powerMetering;
+	}
+
+	/**
+	 * Sets {@link #powerMetering} value
+	 *
+	 * @param powerMetering new value of {@link #powerMetering}
+	 */
+	public void setPowerMetering(String powerMetering) {
+		this.powerMetering = powerMetering;
+	}
+
+	/**
+	 * Retrieves {@link #trendWindows}
+	 *
+	 * @return value of {@link #trendWindows}
+	 */
+	public String getTrendWindows() {
+		return trendWindows;
+	}
+
+	/**
+	 * Sets {@link #trendWindows} value
+	 *
+	 * @param trendWindows new value of {@link #trendWindows}
+	 */
+	public void setTrendWindows(String trendWindows) {
+		this.trendWindows = trendWindows;
+	}
+
+	/**
+	 * Retrieves {@link #trendBufferSize}
+	 *
+	 * @return value of {@link #trendBufferSize}
+	 */
+	public String getTrendBufferSize() {
+		return trendBufferSize;
+	}
+
+	/**
+	 * Sets {@link #trendBufferSize} value
+	 *
+	 * @param trendBufferSize new value of {@link #trendBufferSize}
+	 */
+	public void setTrendBufferSize(String trendBufferSize) {
+		this.trendBufferSize = trendBufferSize;
+	}
+
+	/**
+	 * Retrieves {@link #pingMode}
+	 *
+	 * @return value of {@link #pingMode}
+	 */
+	public String getPingMode() {
+		return pingMode;
+	}
+
+	/**
+	 * Sets {@link #pingMode} value
+	 *
+	 * @param pingMode new value of {@link #pingMode}
+	 */
+	public void setPingMode(String pingMode) {
+		this.pingMode = pingMode;
+	}
+
+	/**
+	 * Retrieves {@link #dedicatedControlChannel}
+	 *
+	 * @return value of {@link #dedicatedControlChannel}
+	 */
+	public String getDedicatedControlChannel() {
+		return dedicatedControlChannel;
+	}
+
+	/**
+	 * Sets {@link #dedicatedControlChannel} value
+	 *
+	 * @param dedicatedControlChannel new value of {@link #dedicatedControlChannel}
+	 */
+	public void setDedicatedControlChannel(String dedicatedControlChannel) {
+		this.dedicatedControlChannel = dedicatedControlChannel;
+	}
+
+	/**
+	 * Constructor for AtenPDUCommunicator class
+	 */
+	public AtenPDUCommunicator() {
+		for (AtenPDUMetricEnum metric : AtenPDUMetricEnum.values()) {
+			metrics.put(metric, new AtenPDULatencyHistogram());
+		}
+		this.setCommandErrorList(Collections.singletonList("Command incorrect"));
+		this.setCommandSuccessList(Collections.singletonList("> "));
+		this.setLoginSuccessList(Collections.singletonList("> "));
+		this.setLoginErrorList(Collections.singletonList("Permission denied, please try again."));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		long startTime = System.nanoTime();
+		boolean isError = true;
+		try {
+			int pingResult;
+			switch (PingModeEnum.getByName(pingMode)) {
+				case PARALLEL_TCP:
+					pingResult = pingBySocketInParallel();
+					break;
+				case ICMP:
+					pingResult = pingByIcmp();
+					break;
+				case SESSION:
+					pingResult = pingBySession();
+					break;
+				case TCP:
+				default:
+					pingResult = pingBySocket();
+					break;
+			}
+			isError = false;
+			if (pingResult >= getPingTimeout()) {
+				isSnapshotStale = true;
+			}
+			return pingResult;
+		} finally {
+			if (isError) {
+				isSnapshotStale = true;
+			}
+			recordMetric(AtenPDUMetricEnum.PING, startTime, isError);
+		}
+	}
+
+	/**
+	 * Measure the average time to open a TCP connection to the port of the active connection mode
+	 *
+	 * @return the average latency in milliseconds
+	 */
+	private int pingBySocket() throws Exception {
+		if (isInitialized()) {
+			long pingResultTotal = 0L;
+			int port = getPingPort();
+
+			for (int i = 0; i < this.getPingAttempts(); i++) {
+				long startTime = System.currentTimeMillis();
+
+				try (Socket puSocketConnection = new Socket(this.host, port)) {
+					puSocketConnection.setSoTimeout(this.getPingTimeout());
+					if (puSocketConnection.isConnected()) {
+						long pingResult = System.currentTimeMillis() - startTime;
+						pingResultTotal += pingResult;
+						if (this.logger.isTraceEnabled()) {
+							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, port, pingResult));
+						}
+					} else {
+						if (this.logger.isDebugEnabled()) {
+							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+						}
+						return this.getPingTimeout();
+					}
+				} catch (SocketTimeoutException | ConnectException tex) {
+					throw new SocketTimeoutException("Socket connection timed out");
+				} catch (UnknownHostException tex) {
+					throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
+				} catch (Exception e) {
+					if (this.logger.isWarnEnabled()) {
+						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+					}
+					return this.getPingTimeout();
+				}
+			}
+			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
+		} else {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+	}
+
+	/**
+	 * Retrieve the port pinged by the TCP ping modes
+	 *
+	 * @return the Telnet port in Telnet mode, the SSH port otherwise
+	 */
+	private int getPingPort() {
+		TelnetChannel channel = telnetChannel;
+		return channel != null ? channel.getPort() : getPort();
+	}
+
+	/**
+	 * Measure the average time to open a TCP connection to the port of the active connection mode, all attempts are opened at once
+	 * from the calling thread and share a single {@link #getPingTimeout()} deadline
+	 *
+	 * @return the average latency in milliseconds of the successful attempts
+	 * @throws SocketTimeoutException if no attempt succeeded within the timeout
+	 */
+	private int pingBySocketInParallel() throws Exception {
+		if (!isInitialized()) {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+		InetSocketAddress address = new InetSocketAddress(host, getPingPort());
+		if (address.isUnresolved()) {
+			throw new SocketTimeoutException("Socket connection timed out, unknown host " + host);
+		}
+		int attempts = Math.max(1, getPingAttempts());
+		List<SocketChannel> channels = new ArrayList<>(attempts);
+		long pingResultTotal = 0L;
+		int connectedCount = 0;
+		long startTime = System.nanoTime();
+		long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(getPingTimeout());
+		try (Selector selector = Selector.open()) {
+			int pendingCount = 0;
+			for (int i = 0; i < attempts; i++) {
+				SocketChannel channel = SocketChannel.open();
+				channels.add(channel);
+				channel.configureBlocking(false);
+				if (channel.connect(address)) {
+					pingResultTotal += System.nanoTime() - startTime;
+					connectedCount++;
+				} else {
+					channel.register(selector, SelectionKey.OP_CONNECT);
+					pendingCount++;
+				}
+			}
+			while (pendingCount > 0) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					break;
+				}
+				selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+				Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+				while (selectedKeys.hasNext()) {
+					SelectionKey key = selectedKeys.next();
+					selectedKeys.remove();
+					key.cancel();
+					pendingCount--;
+					try {
+						if (((SocketChannel) key.channel()).finishConnect()) {
+							pingResultTotal += System.nanoTime() - startTime;
+							connectedCount++;
+						}
+					} catch (IOException e) {
+						logger.debug(String.format("PING FAILED: Connection to %s on port %s failed: %s", host, address.getPort(), e.getMessage()));
+					}
+				}
+			}
+		} finally {
+			for (SocketChannel channel : channels) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					logger.debug("Error when close ping connection " + e.getMessage());
+				}
+			}
+		}
+		if (connectedCount == 0) {
+			throw new SocketTimeoutException("Socket connection timed out");
+		}
+		return Math.max(1, (int) TimeUnit.NANOSECONDS.toMillis(pingResultTotal / connectedCount));
+	}
+
+	/**
+	 * Measure the average ICMP round-trip time to the device
+	 *
+	 * @return the average latency in milliseconds, {@link #getPingTimeout()} if the device doesn't reply
+	 */
+	private int pingByIcmp() {
+		if (!isInitialized()) {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+		int attempts = Math.max(1, getPingAttempts());
+		long pingResultTotal = 0L;
+		for (int i = 0; i < attempts; i++) {
+			int pingResult = IcmpUtils.executePingRequest(host, getPingTimeout());
+			if (pingResult >= getPingTimeout()) {
+				return getPingTimeout();
+			}
+			pingResultTotal += pingResult;
+		}
+		return Math.max(1, Math.toIntExact(pingResultTotal / attempts));
+	}
+
+	/**
+	 * Report the round-trip time of the last request of the established SSH session without contacting the device,
+	 * fall back to {@link #pingBySocket()} if the session isn't established or the last request is older than
+	 * the ping timeout, or than {@link #backgroundRefreshInterval} when the background refresh is enabled
+	 *
+	 * @return the latency in milliseconds
+	 */
+	private int pingBySession() throws Exception {
+		long roundTrip = lastRoundTrip;
+		long maxAge = isBackgroundRefreshEnabled() ? Math.max(getPingTimeout(), getBackgroundRefreshIntervalValue()) : getPingTimeout();
+		if (roundTrip < 0 || System.currentTimeMillis() - lastRoundTripTime > maxAge || !isChannelConnected()) {
+			return pingBySocket();
+		}
+		return (int) Math.max(1, Math.min(roundTrip, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * When {@link #backgroundRefresh} is enabled the latest snapshot refreshed by the background thread is returned
+	 * immediately, annotated with its age. The snapshot restored from {@link #snapshotDirectory} is returned immediately
+	 * until the first poll completes. While the notifications of the device are received, the device is only polled
+	 * once every {@link #trapReconciliationInterval}, or as soon as the session or the ping failed
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		AtenPDUStatisticsSnapshot snapshot = statisticsSnapshot.get();
+		if (snapshot != null && isWarmStartRunning) {
+			return Collections.singletonList(snapshot.toExtendedStatistics());
+		}
+		if (snapshot != null && isBackgroundRefreshEnabled()) {
+			return Collections.singletonList(getStatisticsWithAge(snapshot));
+		}
+		if (snapshot != null && trapListener != null && !isEmergencyDelivery && !isSnapshotStale && System.currentTimeMillis() - snapshot.getTimestamp()
+				< getPropertyValue(trapReconciliationInterval, AtenPDUConstant.DEFAULT_TRAP_RECONCILIATION_INTERVAL, 0)) {
+			// the notifications keep the statistics up to date until the next reconciliation poll
+			return Collections.singletonList(snapshot.toExtendedStatistics());
+		}
+		if (snapshot != null && isEmergencyDelivery) {
+			isEmergencyDelivery = false;
+			return Collections.singletonList(snapshot.toExtendedStatistics());
+		}
+		Long previousDeadline = startDeadline(getPropertyValue(monitoringDeadline, AtenPDUConstant.DEFAULT_MONITORING_DEADLINE, 1));
+		try {
+			long lockStartTime = System.nanoTime();
+			boolean isLocked = reentrantLock.tryLock(getRemainingBudget(), TimeUnit.MILLISECONDS);
+			recordMetric(AtenPDUMetricEnum.LOCK_WAIT, lockStartTime, !isLocked);
+			if (!isLocked) {
+				if (snapshot == null) {
+					throw new ResourceNotReachableException("Error while getting monitoring data, the monitoring deadline is exceeded while waiting for the device");
+				}
+				logger.debug("The monitoring deadline is exceeded while waiting for the device, the previous statistics are returned");
+				return Collections.singletonList(snapshot.toExtendedStatistics());
+			}
+			long holdStartTime = System.nanoTime();
+			boolean isError = true;
+			try {
+				if (!isEmergencyDelivery) {
+					refreshStatistics();
+					isSnapshotStale = false;
+				}
+				isEmergencyDelivery = false;
+				isError = false;
+			} finally {
+				reentrantLock.unlock();
+				recordMetric(AtenPDUMetricEnum.LOCK_HOLD, holdStartTime, isError);
+			}
+		} finally {
+			restoreDeadline(previousDeadline);
+		}
+
+		return Collections.singletonList(statisticsSnapshot.get().toExtendedStatistics());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The whole list is validated before anything is sent, then the controls are executed under a single lock
+	 * acquisition with the switch commands written to the device as one burst
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> list) throws Exception {
+		if (CollectionUtils.isEmpty(list)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		Map<String, String> controls = new LinkedHashMap<>();
+		for (ControllableProperty p : list) {
+			String controlProperty = p.getProperty();
+			if (!isControllable(controlProperty)) {
+				throw new IllegalArgumentException(String.format("Error when control property %s, the property is not supported", controlProperty));
+			}
+			controls.remove(controlProperty);
+			controls.put(controlProperty, String.valueOf(p.getValue()));
+		}
+		if (AtenPDUConstant.TRUE.equalsIgnoreCase(controlQueue)) {
+			for (Map.Entry<String, String> control : controls.entrySet()) {
+				enqueueControl(control.getKey(), control.getValue());
+			}
+			return;
+		}
+		executeWithControlDeadline(controls);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * When {@link #controlQueue} is enabled the control is queued and the method returns immediately,
+	 * the queue is drained between the poll commands or by the control thread if no poll is running
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		String value = String.valueOf(controllableProperty.getValue());
+		String controlProperty = controllableProperty.getProperty();
+		if (!isControllable(controlProperty)) {
+			throw new IllegalArgumentException(String.format("Error when control property %s, the property is not supported", controlProperty));
+		}
+		if (AtenPDUConstant.TRUE.equalsIgnoreCase(controlQueue)) {
+			enqueueControl(controlProperty, value);
+			return;
+		}
+		executeWithControlDeadline(Collections.singletonMap(controlProperty, value));
+	}
+
+	/**
+	 * Acquire the communicator lock within the control deadline and execute the controls
+	 *
+	 * @param controls values to set by property
+	 * @throws IllegalArgumentException if the statistics aren't retrieved yet, the control deadline is exceeded or a control failed
+	 */
+	private void executeWithControlDeadline(Map<String, String> controls) throws Exception {
+		Long previousDeadline = startDeadline(getControlDeadlineValue());
+		try {
+			ReentrantLock lock = getControlLock();
+			if (!lock.tryLock(getRemainingBudget(), TimeUnit.MILLISECONDS)) {
+				throw new IllegalArgumentException(String.format("Error when control %s, the control deadline is exceeded while waiting for the device", controls.keySet()));
+			}
+			try {
+				if (statisticsSnapshot.get() == null) {
+					throw new IllegalArgumentException(String.format("Error when control %s, the statistics of the device are not retrieved yet", controls.keySet()));
+				}
+				executeControls(controls);
+			} finally {
+				lock.unlock();
+			}
+		} finally {
+			restoreDeadline(previousDeadline);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The read timeout of every request is the remaining budget of the current operation deadline,
+	 * it's set while holding the communicator lock so concurrent operations can't race on it.
+	 * When {@link #sessionManagement} is enabled a request reopening the session fails immediately while the
+	 * reconnect backoff hasn't elapsed, and a request waits within its deadline for the session being reopened in background
+	 */
+	@Override
+	protected String send(String data, boolean retry) throws Exception {
+		AtenPDUReconnectBackoff backoff = reconnectBackoffValue;
+		if (backoff == null || isChannelConnected()) {
+			return sendAndRecordActivity(data, retry, null);
+		}
+		if (!reconnectLock.tryLock(Math.max(getRemainingBudget(), 0), TimeUnit.MILLISECONDS)) {
+			throw new SocketTimeoutException("The operation deadline is exceeded while the session is reopened");
+		}
+		try {
+			// the session may have been reopened in background while waiting
+			boolean isReconnecting = !isChannelConnected();
+			if (isReconnecting && !backoff.allowAttempt(System.currentTimeMillis())) {
+				throw new ConnectException(String.format("The session failed %s times, it's reopened in %s ms", backoff.getConsecutiveFailures(),
+						backoff.getRetryTime() - System.currentTimeMillis()));
+			}
+			return sendAndRecordActivity(data, retry, isReconnecting ? backoff : null);
+		} finally {
+			reconnectLock.unlock();
+		}
+	}
+
+	/**
+	 * Send a request and record the activity of the session
+	 *
+	 * @param data the request
+	 * @param retry true to retry once if the request fails
+	 * @param backoff the reconnect backoff recording the result when the request reopens the session, null otherwise
+	 * @return the response
+	 * @throws Exception if the request failed
+	 */
+	private String sendAndRecordActivity(String data, boolean retry, AtenPDUReconnectBackoff backoff) throws Exception {
+		try {
+			String response = sendThroughSession(data, retry);
+			if (backoff != null) {
+				backoff.recordSuccess();
+			}
+			lastSessionActivity = System.currentTimeMillis();
+			return response;
+		} catch (Exception e) {
+			if (!isChannelConnected()) {
+				isSnapshotStale = true;
+				if (backoff != null) {
+					backoff.recordFailure(System.currentTimeMillis());
+				}
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Send a request through the Telnet session in Telnet mode, through the SSH session otherwise
+	 *
+	 * @param data the request
+	 * @param retry true to retry once if the request fails
+	 * @return the response
+	 * @throws Exception if the request failed
+	 */
+	private String sendThroughSession(String data, boolean retry) throws Exception {
+		TelnetChannel channel = telnetChannel;
+		if (channel != null) {
+			return channel.send(data);
+		}
+		this.timeout = getCommandTimeout();
+		return super.send(data, retry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * When several commands are sent in a single request, the response is only complete once
+	 * a prompt has been received for every command
+	 */
+	@Override
+	protected boolean doneReading(String command, String response) throws CommandFailureException {
+		return isBatchComplete(response) && super.doneReading(command, response);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * In Telnet mode the Telnet session is connected instead of the SSH session
+	 */
+	@Override
+	public void connect() throws Exception {
+		TelnetChannel channel = telnetChannel;
+		if (channel != null) {
+			channel.connect();
+			return;
+		}
+		super.connect();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * In Telnet mode the Telnet session is disconnected instead of the SSH session
+	 */
+	@Override
+	public void disconnect() throws Exception {
+		TelnetChannel channel = telnetChannel;
+		if (channel != null) {
+			channel.disconnect();
+			return;
+		}
+		super.disconnect();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * In Telnet mode the connection state of the Telnet session is checked instead of the SSH session
+	 */
+	@Override
+	protected boolean isChannelConnected() {
+		TelnetChannel channel = telnetChannel;
+		return channel != null ? channel.getConnectionStatus().getConnectionState().isConnected() : super.isChannelConnected();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		super.internalInit();
+		trendWindowValues = parseTrendWindows();
+		excludedOutletValues = parseExcludedOutlets();
+		pollingMultiplierValues = parsePollingMultipliers();
+		pollCount = 0;
+		AtenPDUModelEnum configuredModel = AtenPDUModelEnum.getByName(pduModel);
+		isModelDiscoveryPending = AtenPDUConstant.AUTO_MODEL.equalsIgnoreCase(pduModel);
+		if (configuredModel == null) {
+			if (!isModelDiscoveryPending) {
+				logger.warn(String.format("The model %s is not supported, %s is used", pduModel, AtenPDUModelEnum.PE4104G.getName()));
+			}
+			configuredModel = AtenPDUModelEnum.PE4104G;
+		}
+		applyModel(configuredModel);
+		if (isBackgroundRefreshEnabled()) {
+			long interval = getBackgroundRefreshIntervalValue();
+			refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "AtenPDU background refresh " + host);
+				thread.setDaemon(true);
+				return thread;
+			});
+			// the first statistics are retrieved by the first getMultipleStatistics call
+			refreshExecutor.scheduleWithFixedDelay(this::refreshInBackground, interval, interval, TimeUnit.MILLISECONDS);
+		}
+		if (AtenPDUConstant.TRUE.equalsIgnoreCase(sessionManagement)) {
+			reconnectBackoffValue = new AtenPDUReconnectBackoff(getPropertyValue(reconnectBackoff, AtenPDUConstant.DEFAULT_RECONNECT_BACKOFF, 0),
+					AtenPDUConstant.MAX_RECONNECT_BACKOFF);
+			long keepaliveInterval = getPropertyValue(sessionKeepaliveInterval, AtenPDUConstant.DEFAULT_SESSION_KEEPALIVE_INTERVAL, 1);
+			// checking twice per interval keeps the idle time of the session below the interval
+			long checkInterval = Math.max(1, keepaliveInterval / 2);
+			sessionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "AtenPDU session " + host);
+				thread.setDaemon(true);
+				return thread;
+			});
+			sessionExecutor.scheduleWithFixedDelay(() -> maintainSession(keepaliveInterval), checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+		}
+		if (!StringUtils.isNullOrEmpty(controlJournalDirectory)) {
+			AtenPDUControlJournal journal = new AtenPDUControlJournal(Paths.get(controlJournalDirectory.trim(),
+					getDeviceFileName(AtenPDUConstant.CONTROL_JOURNAL_FILE_EXTENSION)), AtenPDUConstant.CONTROL_JOURNAL_MAX_SIZE,
+					(int) getPropertyValue(controlJournalBackups, AtenPDUConstant.DEFAULT_CONTROL_JOURNAL_BACKUPS, 0));
+			try {
+				List<AtenPDUControlJournal.Entry> unfinishedControls = journal.open();
+				controlJournal = journal;
+				recoverControls(unfinishedControls);
+			} catch (IOException e) {
+				logger.error(String.format("Error when open the control journal %s: %s", journal.getPath(), e.getMessage()));
+			}
+		}
+		if (!StringUtils.isNullOrEmpty(snapshotDirectory)) {
+			snapshotFile = new AtenPDUSnapshotFile(Paths.get(snapshotDirectory.trim(), getDeviceFileName(AtenPDUConstant.SNAPSHOT_FILE_EXTENSION)));
+			restoreSnapshot();
+		}
+		snmpObjects = new AtenPDUSnmpObjects(parseSnmpOids());
+		AtenPDUConnectionModeEnum connectionModeValue = AtenPDUConnectionModeEnum.getByName(connectionMode);
+		if (connectionModeValue == AtenPDUConnectionModeEnum.SNMP) {
+			openSnmpTransport();
+		}
+		if (connectionModeValue == AtenPDUConnectionModeEnum.TELNET) {
+			telnetChannel = createTelnetChannel();
+		}
+		if (sharedTrapListener != null || !StringUtils.isNullOrEmpty(trapListenerPort)) {
+			openTrapListener();
+		}
+		if (AtenPDUConstant.TRUE.equalsIgnoreCase(dedicatedControlChannel)) {
+			controlChannel = connectionModeValue == AtenPDUConnectionModeEnum.TELNET ? createTelnetChannel() : createControlChannel();
+		}
+	}
+
+	/**
+	 * Create the dedicated SSH control session, the session is opened by the first control
+	 *
+	 * @return the initialized session
+	 * @throws Exception if the session can't be initialized
+	 */
+	private ControlChannel createControlChannel() throws Exception {
+		ControlChannel channel = new ControlChannel();
+		channel.setHost(host);
+		channel.setPort(port);
+		channel.setLogin(login);
+		channel.setPassword(password);
+		channel.init();
+		return channel;
+	}
+
+	/**
+	 * Create a Telnet session on {@link #telnetPort}, the session is opened by the first command
+	 *
+	 * @return the initialized session
+	 * @throws Exception if the session can't be initialized
+	 */
+	private TelnetChannel createTelnetChannel() throws Exception {
+		TelnetChannel channel = new TelnetChannel();
+		channel.setHost(host);
+		channel.setPort((int) getPropertyValue(telnetPort, AtenPDUConstant.DEFAULT_TELNET_PORT, 1));
+		channel.setLogin(login);
+		channel.setPassword(password);
+		channel.init();
+		return channel;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (warmStartThread != null) {
+			warmStartThread.interrupt();
+			warmStartThread = null;
+		}
+		isWarmStartRunning = false;
+		snapshotFile = null;
+		persistedValues = Collections.emptyMap();
+		if (controlJournal != null) {
+			try {
+				controlJournal.close();
+			} catch (IOException e) {
+				logger.debug("Error when close the control journal " + e.getMessage());
+			}
+			controlJournal = null;
+		}
+		recoveredControls.clear();
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdownNow();
+			refreshExecutor = null;
+		}
+		if (sessionExecutor != null) {
+			sessionExecutor.shutdownNow();
+			sessionExecutor = null;
+		}
+		reconnectBackoffValue = null;
+		statisticsSnapshot.set(null);
+		synchronized (pendingControls) {
+			pendingControls.clear();
+			if (controlExecutor != null) {
+				controlExecutor.shutdownNow();
+				controlExecutor = null;
+			}
+		}
+		if (controlChannel != null) {
+			controlChannel.destroy();
+			controlChannel = null;
+		}
+		if (telnetChannel != null) {
+			telnetChannel.destroy();
+			telnetChannel = null;
+		}
+		if (transport != null) {
+			try {
+				transport.close();
+			} catch (IOException e) {
+				logger.debug("Error when close the transport " + e.getMessage());
+			}
+			transport = null;
+		}
+		if (trapListener != null && trapListener == sharedTrapListener) {
+			trapListener.unsubscribe(trapSource);
+			trapListener = null;
+		} else if (trapListener != null) {
+			try {
+				trapListener.close();
+			} catch (IOException e) {
+				logger.debug("Error when close the notification listener " + e.getMessage());
+			}
+			trapListener = null;
+		}
+		if (notificationExecutor != null) {
+			notificationExecutor.shutdownNow();
+			notificationExecutor = null;
+		}
+		failedMonitor.clear();
+		cacheKeyAndValue.clear();
+		trendSeries = new AtenPDUTimeSeries[0];
+		deviceStatistics = null;
+		deviceControls = Collections.emptyList();
+		deviceStatisticsModel = null;
+		lastChangeTime = 0;
+		lastChangedProperties = AtenPDUConstant.EMPTY;
+		super.internalDestroy();
+	}
+
+	/**
+	 * Retrieve monitoring data from the remote device and publish the new statistics,
+	 * must be called while holding {@link #reentrantLock}
+	 */
+	private void refreshStatistics() throws Exception {
+		long version = controlVersion;
+		failedMonitor.clear();
+		staleMonitor.clear();
+		skippedMonitor.clear();
+		changedMonitor.clear();
+		retrieveMonitoring();
+		pollCount++;
+		if (!failedMonitor.isEmpty() && failedMonitor.size() == model.getMonitoringCommands().size() - skippedMonitor.cardinality()) {
+			StringBuilder sb = new StringBuilder();
+			failedMonitor.forEach((failedMonitorGroupName, message) -> sb.append(message).append("\n"));
+			throw new ResourceNotReachableException("Error while getting monitoring data, " + sb);
+		}
+		long now = System.currentTimeMillis();
+		boolean isDeviceStatisticsChanged = updateDeviceStatistics(version, now);
+		boolean isMetricsEnabled = AtenPDUConstant.TRUE.equalsIgnoreCase(adapterMetrics);
+		AtenPDUStatisticsSnapshot previousSnapshot = statisticsSnapshot.get();
+		if (!isDeviceStatisticsChanged && previousSnapshot != null && staleMonitor.isEmpty() && trendWindowValues.length == 0 && !isMetricsEnabled) {
+			// nothing changed since the previous poll, the published objects are reused
+			statisticsSnapshot.set(previousSnapshot.withTimestamp(now));
+			if (!recoveredControls.isEmpty()) {
+				reconcileControls();
+			}
+			return;
+		}
+		Map<String, String> stats = new HashMap<>(deviceStatistics);
+		if (!staleMonitor.isEmpty()) {
+			StringBuilder staleProperties = new StringBuilder();
+			List<AtenPDUMonitoringCommand> commands = model.getMonitoringCommands();
+			for (int i = staleMonitor.nextSetBit(0); i >= 0; i = staleMonitor.nextSetBit(i + 1)) {
+				staleProperties.append(staleProperties.length() == 0 ? AtenPDUConstant.EMPTY : ", ").append(commands.get(i).getName());
+			}
+			stats.put(AtenPDUConstant.STALE_PROPERTIES, staleProperties.toString());
+		}
+		if (trendWindowValues.length > 0) {
+			populateTrends(stats, now);
+		}
+		if (isMetricsEnabled) {
+			populateMetrics(stats);
+		}
+		statisticsSnapshot.set(new AtenPDUStatisticsSnapshot(stats, deviceControls, now));
+		if (snapshotFile != null && isDeviceStatisticsChanged) {
+			persistSnapshot();
+		}
+		if (!recoveredControls.isEmpty()) {
+			reconcileControls();
+		}
+	}
+
+	/**
+	 * Rebuild {@link #deviceStatistics} if a monitored value changed during the poll, a control updated the published values
+	 * or the model changed. The controllable properties are only rebuilt if an outlet state changed,
+	 * must be called while holding {@link #reentrantLock}
+	 *
+	 * @param version value of {@link #controlVersion} when the poll started
+	 * @param now current time in milliseconds
+	 * @return true if the device statistics were rebuilt
+	 */
+	private boolean updateDeviceStatistics(long version, long now) {
+		AtenPDUModel currentModel = model;
+		boolean isValid = deviceStatistics != null && deviceStatisticsModel == currentModel && deviceStatisticsControlVersion == version;
+		if (isValid && changedMonitor.isEmpty()) {
+			return false;
+		}
+		boolean isOutletChanged = !isValid;
+		if (isValid) {
+			lastChangeTime = now;
+			lastChangedProperties = String.join(", ", changedMonitor);
+			for (String name : changedMonitor) {
+				isOutletChanged |= currentModel.getOutletNumber(name) > 0;
+			}
+		}
+		Map<String, String> stats = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = isOutletChanged ? new ArrayList<>() : null;
+		populateMonitoringAndControllingData(stats, advancedControllableProperties);
+		if (lastChangeTime > 0) {
+			stats.put(AtenPDUConstant.LAST_CHANGE_TIME, Instant.ofEpochMilli(lastChangeTime).toString());
+			stats.put(AtenPDUConstant.CHANGED_PROPERTIES, lastChangedProperties);
+		}
+		deviceStatistics = stats;
+		if (advancedControllableProperties != null) {
+			deviceControls = Collections.unmodifiableList(advancedControllableProperties);
+		}
+		deviceStatisticsModel = currentModel;
+		deviceStatisticsControlVersion = version;
+		return true;
+	}
+
+	/**
+	 * Retrieve the name of a file dedicated to the device
+	 *
+	 * @param extension extension of the file
+	 * @return the file name built from the host and port of the device
+	 */
+	private String getDeviceFileName(String extension) {
+		return AtenPDUConstant.SNAPSHOT_FILE_PREFIX + host.replaceAll("[^A-Za-z0-9.-]", "_") + "-" + port + extension;
+	}
+
+	/**
+	 * Keep the switch controls left unfinished by the previous run to be reconciled by the first poll,
+	 * the reboots and the controls superseded by a later control of the same outlet are abandoned
+	 *
+	 * @param unfinishedControls the controls requested but not completed, in request order
+	 */
+	private void recoverControls(List<AtenPDUControlJournal.Entry> unfinishedControls) {
+		for (AtenPDUControlJournal.Entry entry : unfinishedControls) {
+			if (AtenPDUCommand.REBOOT.getName().equals(entry.getProperty())) {
+				logger.warn(String.format("The reboot requested at %s was interrupted, it's not retried", entry.getTimestamp()));
+				journalCompletion(entry.getId(), AtenPDUControlJournal.Status.ABANDONED, "A reboot is never retried");
+				continue;
+			}
+			AtenPDUControlJournal.Entry supersededEntry = recoveredControls.put(entry.getProperty(), entry);
+			if (supersededEntry != null) {
+				journalCompletion(supersededEntry.getId(), AtenPDUControlJournal.Status.ABANDONED, "Superseded by control " + entry.getId());
+			}
+		}
+	}
+
+	/**
+	 * Compare the recovered controls with the retrieved outlet states, the controls not applied yet are retried,
+	 * must be called while holding {@link #reentrantLock}
+	 */
+	private void reconcileControls() {
+		AtenPDUModel currentModel = model;
+		Map<String, String> retriedControls = new LinkedHashMap<>();
+		Iterator<AtenPDUControlJournal.Entry> entries = recoveredControls.values().iterator();
+		while (entries.hasNext()) {
+			AtenPDUControlJournal.Entry entry = entries.next();
+			int outlet = currentModel.getOutletNumber(entry.getProperty());
+			if (outlet == 0) {
+				journalCompletion(entry.getId(), AtenPDUControlJournal.Status.ABANDONED, "The outlet is not monitored");
+				entries.remove();
+				continue;
+			}
+			Optional<OutletStatusEnum> outletStatus = OutletStatusEnum.getByValue(cacheKeyAndValue.get(entry.getProperty()));
+			if (!outletStatus.isPresent() || failedMonitor.containsKey(AtenPDUCommand.OUTLET_STATUS.getCommand(outlet))) {
+				// the state is unknown, the control is reconciled by the next poll
+				continue;
+			}
+			boolean isOn = AtenPDUConstant.NUMBER_ONE.equalsIgnoreCase(entry.getValue());
+			if ((outletStatus.get() == OutletStatusEnum.ON) == isOn) {
+				journalCompletion(entry.getId(), AtenPDUControlJournal.Status.RECONCILED, "The outlet is already in the requested state");
+				entries.remove();
+			} else {
+				retriedControls.put(entry.getProperty(), entry.getValue());
+			}
+		}
+		if (!retriedControls.isEmpty()) {
+			retryRecoveredControls(retriedControls);
+		}
+	}
+
+	/**
+	 * Retry the recovered controls within the control deadline, every retry is recorded as a new control and the
+	 * recovered control is completed with the result of its retry. The controls are kept for the next poll if the control
+	 * session can't be locked, must be called while holding {@link #reentrantLock}
+	 *
+	 * @param controls values to set by property
+	 */
+	private void retryRecoveredControls(Map<String, String> controls) {
+		Long previousDeadline = startDeadline(getControlDeadlineValue());
+		ReentrantLock lock = getControlLock();
+		try {
+			if (!lock.tryLock(getRemainingBudget(), TimeUnit.MILLISECONDS)) {
+				logger.debug(String.format("The retry of the recovered controls %s is postponed, the control session is busy", controls.keySet()));
+				return;
+			}
+			try {
+				Map<String, Long> journalIds = new HashMap<>();
+				for (Map.Entry<String, String> control : controls.entrySet()) {
+					journalIds.put(control.getKey(), journalRequest(control.getKey(), control.getValue()));
+				}
+				try {
+					executeControls(controls, journalIds);
+				} catch (Exception e) {
+					logger.error(String.format("Error when retry the recovered controls %s", controls.keySet()), e);
+				}
+				for (Map.Entry<String, String> control : controls.entrySet()) {
+					AtenPDUControlJournal.Entry entry = recoveredControls.remove(control.getKey());
+					boolean isOn = AtenPDUConstant.NUMBER_ONE.equalsIgnoreCase(control.getValue());
+					boolean isApplied = (OutletStatusEnum.ON.getValue().equals(cacheKeyAndValue.get(control.getKey()))) == isOn;
+					String message = String.format("The control is retried as control %s", journalIds.get(control.getKey()));
+					journalCompletion(entry.getId(), isApplied ? AtenPDUControlJournal.Status.RECONCILED : AtenPDUControlJournal.Status.FAILED,
+							isApplied ? message : message + " which failed");
+				}
+			} finally {
+				lock.unlock();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			restoreDeadline(previousDeadline);
+		}
+	}
+
+	/**
+	 * Record a requested control in {@link #controlJournal}
+	 *
+	 * @param property name of the controlled property
+	 * @param value value of the control
+	 * @return id of the control, -1 if it's not recorded
+	 */
+	private long journalRequest(String property, String value) {
+		AtenPDUControlJournal journal = controlJournal;
+		if (journal == null) {
+			return -1;
+		}
+		try {
+			return journal.request(property, value);
+		} catch (IOException e) {
+			logger.warn(String.format("Error when record the control of %s in the journal: %s", property, e.getMessage()));
+			return -1;
+		}
+	}
+
+	/**
+	 * Record the completion of a control in {@link #controlJournal}
+	 *
+	 * @param id id returned by {@link #journalRequest(String, String)}
+	 * @param status result of the control
+	 * @param message detail of the result
+	 */
+	private void journalCompletion(long id, AtenPDUControlJournal.Status status, String message) {
+		AtenPDUControlJournal journal = controlJournal;
+		if (journal == null || id < 0) {
+			return;
+		}
+		try {
+			journal.complete(id, status, message);
+		} catch (IOException e) {
+			logger.warn(String.format("Error when record the completion of control %s in the journal: %s", id, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Write the cached values to {@link #snapshotFile} if they changed since the last write,
+	 * must be called while holding {@link #reentrantLock}
+	 */
+	private void persistSnapshot() {
+		Map<String, String> values = new HashMap<>(cacheKeyAndValue);
+		if (values.equals(persistedValues)) {
+			return;
+		}
+		try {
+			snapshotFile.save(values);
+			persistedValues = values;
+		} catch (IOException e) {
+			logger.warn(String.format("Error when persist the snapshot to %s: %s", snapshotFile.getPath(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Publish the values persisted in {@link #snapshotFile} by the previous run, annotated with their age,
+	 * and start the first poll in background so the controls and the monitoring don't wait for it
+	 */
+	private void restoreSnapshot() {
+		Map<String, String> values;
+		long timestamp;
+		try {
+			values = snapshotFile.load();
+			if (values.isEmpty()) {
+				return;
+			}
+			timestamp = snapshotFile.getTimestamp();
+		} catch (IOException | IllegalArgumentException e) {
+			logger.warn(String.format("Error when restore the snapshot from %s: %s", snapshotFile.getPath(), e.getMessage()));
+			return;
+		}
+		cacheKeyAndValue.putAll(values);
+		persistedValues = values;
+		Map<String, String> stats = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		populateMonitoringAndControllingData(stats, advancedControllableProperties);
+		stats.put(AtenPDUConstant.RESTORED_SNAPSHOT_AGE, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(Math.max(0, System.currentTimeMillis() - timestamp))));
+		statisticsSnapshot.set(new AtenPDUStatisticsSnapshot(stats, advancedControllableProperties, timestamp));
+
+		isWarmStartRunning = true;
+		warmStartThread = new Thread(() -> {
+			try {
+				refreshInBackground();
+			} finally {
+				isWarmStartRunning = false;
+			}
+		}, "AtenPDU warm start " + host);
+		warmStartThread.setDaemon(true);
+		warmStartThread.start();
+	}
+
+	/**
+	 * Record the fresh outlet states and power readings in their time series and publish the rolling aggregates
+	 * of every trend window, must be called while holding {@link #reentrantLock}
+	 *
+	 * @param stats the stats are list of statistics
+	 * @param now current time in milliseconds
+	 */
+	private void populateTrends(Map<String, String> stats, long now) {
+		for (AtenPDUMonitoringCommand command : model.getMonitoringCommands()) {
+			AtenPDUTimeSeries series = trendSeries[command.getIndex()];
+			if (series == null || skippedMonitor.get(command.getIndex())) {
+				continue;
+			}
+			String value = stats.get(command.getName());
+			if (!staleMonitor.get(command.getIndex()) && !failedMonitor.containsKey(command.getCommand()) && value != null && !AtenPDUConstant.NONE.equals(value)) {
+				try {
+					series.add(now, Double.parseDouble(value));
+				} catch (NumberFormatException e) {
+					logger.debug(String.format("The value %s of %s isn't a number", value, command.getName()));
+				}
+			}
+			String name = command.getName().replace("#", AtenPDUConstant.EMPTY);
+			for (long window : trendWindowValues) {
+				String group = AtenPDUConstant.TREND_GROUP + TimeUnit.MILLISECONDS.toSeconds(window) + "s#";
+				long since = now - window;
+				if (command.isMetering()) {
+					int unitIndex = name.indexOf('(');
+					String baseName = unitIndex < 0 ? name : name.substring(0, unitIndex);
+					String unit = unitIndex < 0 ? AtenPDUConstant.EMPTY : name.substring(unitIndex);
+					stats.put(group + baseName + AtenPDUConstant.TREND_MIN + unit, formatTrendValue(series.getMin(since)));
+					stats.put(group + baseName + AtenPDUConstant.TREND_MAX + unit, formatTrendValue(series.getMax(since)));
+					stats.put(group + baseName + AtenPDUConstant.TREND_AVG + unit, formatTrendValue(series.getAverage(since)));
+				} else {
+					stats.put(group + name + AtenPDUConstant.TREND_FLAPS, String.valueOf(series.countTransitions(since)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Format an aggregate of a time series with one decimal
+	 *
+	 * @param value the aggregate
+	 * @return the formatted value, {@link AtenPDUConstant#NONE} if there is no sample in the window
+	 */
+	private String formatTrendValue(double value) {
+		if (Double.isNaN(value)) {
+			return AtenPDUConstant.NONE;
+		}
+		return String.valueOf(Math.round(value * 10) / 10.0);
+	}
+
+	/**
+	 * Refresh the statistics from the background thread, the errors are kept to be reported
+	 * once the snapshot is too old to be served
+	 */
+	private void refreshInBackground() {
+		Long previousDeadline = startDeadline(getPropertyValue(monitoringDeadline, AtenPDUConstant.DEFAULT_MONITORING_DEADLINE, 1));
+		try {
+			long lockStartTime = System.nanoTime();
+			boolean isLocked = reentrantLock.tryLock(getRemainingBudget(), TimeUnit.MILLISECONDS);
+			recordMetric(AtenPDUMetricEnum.LOCK_WAIT, lockStartTime, !isLocked);
+			if (!isLocked) {
+				logger.debug("The monitoring deadline is exceeded while waiting for the device, the background refresh is skipped");
+				return;
+			}
+			long holdStartTime = System.nanoTime();
+			boolean isError = true;
+			try {
+				if (!isEmergencyDelivery) {
+					refreshStatistics();
+					isSnapshotStale = false;
+				}
+				isEmergencyDelivery = false;
+				lastRefreshError = null;
+				isError = false;
+			} finally {
+				reentrantLock.unlock();
+				recordMetric(AtenPDUMetricEnum.LOCK_HOLD, holdStartTime, isError);
+			}
+		} catch (Exception e) {
+			lastRefreshError = e;
+			logger.error("Error when refresh statistics in background " + e.getMessage());
+		} finally {
+			restoreDeadline(previousDeadline);
+		}
+	}
+
+	/**
+	 * Keep the session open while the adapter is idle: a dropped session is reopened once the reconnect backoff elapsed
+	 * and an empty command is sent through a session idle for the keepalive interval. Nothing is done while a poll
+	 * or a control holds the session
+	 *
+	 * @param keepaliveInterval time in milliseconds the session can stay idle
+	 */
+	private void maintainSession(long keepaliveInterval) {
+		if (!isChannelConnected()) {
+			reopenSession();
+			return;
+		}
+		if (System.currentTimeMillis() - lastSessionActivity < keepaliveInterval || !reentrantLock.tryLock()) {
+			return;
+		}
+		// a poll waits for the keepalive at most for its short deadline
+		Long previousDeadline = startDeadline(Math.min(AtenPDUConstant.SESSION_KEEPALIVE_TIMEOUT, statisticsSSHTimeout));
+		try {
+			this.send(AtenPDUConstant.CARRIAGE_RETURN);
+		} catch (Exception e) {
+			logger.debug("Error when keep the session open " + e.getMessage());
+		} finally {
+			restoreDeadline(previousDeadline);
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Reopen a dropped session once the reconnect backoff elapsed, without holding {@link #reentrantLock} so the polls
+	 * aren't blocked by the login. Nothing is done while another thread reopens the session
+	 */
+	private void reopenSession() {
+		AtenPDUReconnectBackoff backoff = reconnectBackoffValue;
+		if (backoff == null || !reconnectLock.tryLock()) {
+			return;
+		}
+		try {
+			if (isChannelConnected() || !backoff.allowAttempt(System.currentTimeMillis())) {
+				return;
+			}
+			connect();
+			backoff.recordSuccess();
+			lastSessionActivity = System.currentTimeMillis();
+		} catch (Exception e) {
+			backoff.recordFailure(System.currentTimeMillis());
+			isSnapshotStale = true;
+			logger.debug("Error when reopen the session " + e.getMessage());
+		} finally {
+			reconnectLock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieve a copy of a statistics snapshot annotated with its age
+	 *
+	 * @param snapshot the statistics snapshot
+	 * @return the statistics with their age
+	 * @throws Exception the last refresh error if the snapshot is older than three refresh intervals
+	 */
+	private ExtendedStatistics getStatisticsWithAge(AtenPDUStatisticsSnapshot snapshot) throws Exception {
+		long age = System.currentTimeMillis() - snapshot.getTimestamp();
+		Exception refreshError = lastRefreshError;
+		if (refreshError != null && age > AtenPDUConstant.MAX_STALE_INTERVALS * getBackgroundRefreshIntervalValue()) {
+			throw refreshError;
+		}
+		Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+		stats.put(AtenPDUConstant.STATISTICS_AGE, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(age)));
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(stats);
+		extendedStatistics.setControllableProperties(snapshot.getControllableProperties());
+		return extendedStatistics;
+	}
+
+	/**
+	 * Start an operation deadline for the current thread
+	 *
+	 * @param budget time in milliseconds the operation may take, including the time waiting for the device
+	 * @return the previous deadline of the thread to be restored with {@link #restoreDeadline(Long)}
+	 */
+	private Long startDeadline(long budget) {
+		Long previousDeadline = operationDeadline.get();
+		operationDeadline.set(System.currentTimeMillis() + budget);
+		return previousDeadline;
+	}
+
+	/**
+	 * Restore the operation deadline of the current thread
+	 *
+	 * @param previousDeadline the deadline returned by {@link #startDeadline(long)}
+	 */
+	private void restoreDeadline(Long previousDeadline) {
+		if (previousDeadline == null) {
+			operationDeadline.remove();
+		} else {
+			operationDeadline.set(previousDeadline);
+		}
+	}
+
+	/**
+	 * Retrieve the time to wait for the response of a command sent through the SSH or Telnet session
+	 *
+	 * @return the SSH timeout bounded by the remaining budget of the current operation deadline
+	 * @throws SocketTimeoutException if the operation deadline is already exceeded
+	 */
+	private int getCommandTimeout() throws SocketTimeoutException {
+		long remainingBudget = getRemainingBudget();
+		if (remainingBudget <= 0) {
+			throw new SocketTimeoutException("The operation deadline is exceeded before sending the command");
+		}
+		return (int) Math.min(remainingBudget, statisticsSSHTimeout);
+	}
+
+	/**
+	 * Retrieve the remaining budget of the current operation
+	 *
+	 * @return remaining time in milliseconds, {@link #statisticsSSHTimeout} if no operation deadline is set
+	 */
+	private long getRemainingBudget() {
+		Long deadline = operationDeadline.get();
+		return deadline == null ? statisticsSSHTimeout : deadline - System.currentTimeMillis();
+	}
+
+	/**
+	 * Retrieve the control deadline in milliseconds
+	 *
+	 * @return {@link #controlDeadline} or the default deadline if it's not a valid number
+	 */
+	private long getControlDeadlineValue() {
+		return getPropertyValue(controlDeadline, controlSSHTimeout, 1);
+	}
+
+	/**
+	 * Check if {@link #backgroundRefresh} is enabled
+	 *
+	 * @return true if the statistics are refreshed in background
+	 */
+	private boolean isBackgroundRefreshEnabled() {
+		return AtenPDUConstant.TRUE.equalsIgnoreCase(backgroundRefresh);
+	}
+
+	/**
+	 * Retrieve the background refresh interval in milliseconds
+	 *
+	 * @return {@link #backgroundRefreshInterval} or the default interval if it's not a valid number
+	 */
+	private long getBackgroundRefreshIntervalValue() {
+		return getPropertyValue(backgroundRefreshInterval, AtenPDUConstant.DEFAULT_BACKGROUND_REFRESH_INTERVAL, AtenPDUConstant.MIN_BACKGROUND_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * Retrieves the model of the device, discovered by the first poll when {@link #pduModel} is {@link AtenPDUConstant#AUTO_MODEL}
+	 *
+	 * @return the resolved model of the device
+	 */
+	AtenPDUModelEnum getResolvedModel() {
+		return model.getModel();
+	}
+
+	/**
+	 * Parse a numeric configurable property
+	 *
+	 * @param value value of the configurable property
+	 * @param defaultValue value used if the property isn't a valid number
+	 * @param minValue minimum accepted value
+	 * @return the parsed value
+	 */
+	static long getPropertyValue(String value, long defaultValue, long minValue) {
+		try {
+			return Math.max(minValue, Long.parseLong(value.trim()));
+		} catch (Exception e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Build the descriptor of a model and the health and history of its monitoring commands,
+	 * must be called from {@link #internalInit()} or while holding {@link #reentrantLock}
+	 *
+	 * @param pduModelValue the model of the device
+	 */
+	private void applyModel(AtenPDUModelEnum pduModelValue) {
+		AtenPDUModel newModel = new AtenPDUModel(pduModelValue, AtenPDUConstant.TRUE.equalsIgnoreCase(powerMetering), excludedOutletValues);
+		List<AtenPDUMonitoringCommand> commands = newModel.getMonitoringCommands();
+		int threshold = (int) getPropertyValue(circuitBreakerThreshold, AtenPDUConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD, 1);
+		long backoff = getPropertyValue(circuitBreakerBackoff, AtenPDUConstant.DEFAULT_CIRCUIT_BREAKER_BACKOFF, 0);
+		AtenPDUCircuitBreaker[] newCircuitBreakers = new AtenPDUCircuitBreaker[commands.size()];
+		AtenPDUTimeSeries[] newTrendSeries = new AtenPDUTimeSeries[commands.size()];
+		int[] newPollingMultipliers = pollingMultiplierValues.isEmpty() ? new int[0] : new int[commands.size()];
+		int bufferSize = (int) getPropertyValue(trendBufferSize, AtenPDUConstant.DEFAULT_TREND_BUFFER_SIZE, 2);
+		for (AtenPDUMonitoringCommand command : commands) {
+			newCircuitBreakers[command.getIndex()] = new AtenPDUCircuitBreaker(threshold, backoff, AtenPDUConstant.MAX_CIRCUIT_BREAKER_BACKOFF);
+			if (trendWindowValues.length > 0 && TREND_COMMANDS.contains(command.getType())) {
+				newTrendSeries[command.getIndex()] = new AtenPDUTimeSeries(bufferSize);
+			}
+			if (newPollingMultipliers.length > 0) {
+				String name = command.getName();
+				Integer multiplier = pollingMultiplierValues.get(name);
+				if (multiplier == null) {
+					multiplier = pollingMultiplierValues.getOrDefault(name.substring(name.indexOf('#') + 1), 1);
+				}
+				newPollingMultipliers[command.getIndex()] = multiplier;
+			}
+		}
+		circuitBreakers = newCircuitBreakers;
+		commandPollingMultipliers = newPollingMultipliers;
+		trendSeries = newTrendSeries;
+		model = newModel;
+	}
+
+	/**
+	 * Discover the model by reading the status of the last outlet of every model from the largest one,
+	 * the first outlet accepted by the device gives the model. The discovery is retried by the next poll
+	 * if the device can't be reached, the configured model is kept if the device accepts none of the outlets.
+	 * Must be called while holding {@link #reentrantLock}
+	 */
+	private void discoverModel() throws Exception {
+		AtenPDUModelEnum[] models = AtenPDUModelEnum.values();
+		boolean isDiscovered = false;
+		for (int i = models.length - 1; i >= 0; i--) {
+			String command = AtenPDUCommand.OUTLET_STATUS.getCommand(models[i].getOutletCount());
+			try {
+				String response = this.send(command.concat(AtenPDUConstant.CARRIAGE_RETURN));
+				if (!StringUtils.isNullOrEmpty(response) && AtenPDUResponseParser.parseOutletStatus(response, 0, response.length()) != null) {
+					applyModel(models[i]);
+					isDiscovered = true;
+					break;
+				}
+			} catch (FailedLoginException e) {
+				throw new FailedLoginException("Login failure, check credentials and try again.");
+			} catch (CommandFailureException e) {
+				logger.debug(String.format("The device isn't a %s, %s", models[i].getName(), e.getMessage()));
+			} catch (Exception e) {
+				logger.error("Error when discover the model of the device " + e.getMessage());
+				return;
+			}
+		}
+		isModelDiscoveryPending = false;
+		if (!isDiscovered) {
+			logger.warn(String.format("Error when discover the model of the device, no outlet status is accepted by the device, %s is used",
+					model.getModel().getName()));
+		} else if (logger.isDebugEnabled()) {
+			logger.debug(String.format("The model of the device is %s", model.getModel().getName()));
+		}
+	}
+
+	/**
+	 * Parse {@link #excludedOutlets}, the invalid outlets are ignored
+	 *
+	 * @return the excluded outlet numbers
+	 */
+	private Set<Integer> parseExcludedOutlets() {
+		if (StringUtils.isNullOrEmpty(excludedOutlets)) {
+			return Collections.emptySet();
+		}
+		Set<Integer> outlets = new HashSet<>();
+		for (String outlet : excludedOutlets.split(",")) {
+			long outletValue = getPropertyValue(outlet, 0, 0);
+			if (outletValue > 0) {
+				outlets.add((int) outletValue);
+			} else {
+				logger.warn(String.format("The excluded outlet %s is ignored, it must be an outlet number", outlet));
+			}
+		}
+		return outlets;
+	}
+
+	/**
+	 * Parse {@link #pollingMultipliers}, the invalid multipliers are ignored
+	 *
+	 * @return the polling interval multipliers by property name
+	 */
+	private Map<String, Integer> parsePollingMultipliers() {
+		if (StringUtils.isNullOrEmpty(pollingMultipliers)) {
+			return Collections.emptyMap();
+		}
+		Map<String, Integer> multipliers = new HashMap<>();
+		for (String pollingMultiplier : pollingMultipliers.split(",")) {
+			int separatorIndex = pollingMultiplier.lastIndexOf(':');
+			long multiplier = separatorIndex < 0 ? 0 : getPropertyValue(pollingMultiplier.substring(separatorIndex + 1), 0, 0);
+			if (multiplier > 0) {
+				multipliers.put(pollingMultiplier.substring(0, separatorIndex).trim(), (int) Math.min(multiplier, Integer.MAX_VALUE));
+			} else {
+				logger.warn(String.format("The polling multiplier %s is ignored, it must be in the form property:multiplier", pollingMultiplier));
+			}
+		}
+		return multipliers;
+	}
+
+	/**
+	 * Parse {@link #snmpOids}, the invalid objects are ignored
+	 *
+	 * @return the objects by command
+	 */
+	private Map<AtenPDUCommand, String> parseSnmpOids() {
+		if (StringUtils.isNullOrEmpty(snmpOids)) {
+			return Collections.emptyMap();
+		}
+		Map<AtenPDUCommand, String> oids = new EnumMap<>(AtenPDUCommand.class);
+		for (String snmpOid : snmpOids.split(",")) {
+			int separatorIndex = snmpOid.indexOf(':');
+			AtenPDUCommand command = null;
+			if (separatorIndex > 0) {
+				try {
+					command = AtenPDUCommand.valueOf(snmpOid.substring(0, separatorIndex).trim().toUpperCase());
+				} catch (IllegalArgumentException e) {
+					command = null;
+				}
+			}
+			String oid = separatorIndex < 0 ? AtenPDUConstant.EMPTY : snmpOid.substring(separatorIndex + 1).trim();
+			if (command != null && command.isMonitoring() && (oid.isEmpty() || oid.matches("\\.?\\d+(\\.\\d+)+"))) {
+				oids.put(command, oid.startsWith(".") ? oid.substring(1) : oid);
+			} else {
+				logger.warn(String.format("The SNMP object %s is ignored, it must be in the form command:oid", snmpOid));
+			}
+		}
+		return oids;
+	}
+
+	/**
+	 * Open the SNMP transport, SSH is used if it can't be opened
+	 */
+	private void openSnmpTransport() {
+		AtenPDUSnmpTransport snmpTransport = new AtenPDUSnmpTransport(host, getSnmpPort(), snmpObjects);
+		try {
+			if (AtenPDUConstant.SNMP_VERSION_3.equals(getSnmpVersion() == null ? null : getSnmpVersion().trim())) {
+				snmpTransport.openV3(snmpSecurityName, snmpAuthPassphrase, snmpPrivPassphrase);
+			} else {
+				snmpTransport.openV2c(getSnmpCommunity());
+			}
+			transport = snmpTransport;
+		} catch (IOException e) {
+			logger.error("Error when open the SNMP transport, SSH is used " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Open the notification listener or subscribe to {@link #sharedTrapListener}, no notification is received if it
+	 * can't be opened
+	 */
+	private void openTrapListener() {
+		try {
+			String community = StringUtils.isNullOrEmpty(trapCommunity) ? getSnmpCommunity() : trapCommunity;
+			notificationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "AtenPDU notification " + host);
+				thread.setDaemon(true);
+				return thread;
+			});
+			trapSource = InetAddress.getByName(host);
+			if (sharedTrapListener != null) {
+				if (sharedTrapListener.subscribe(trapSource, community, this::enqueueNotification)) {
+					trapListener = sharedTrapListener;
+				} else {
+					logger.warn("The notifications of " + host + " are ignored, another device with the same address receives them");
+				}
+				return;
+			}
+			AtenPDUTrapListener listener = new AtenPDUTrapListener(trapSource, community, this::enqueueNotification);
+			listener.open((int) getPropertyValue(trapListenerPort, 0, 0));
+			trapListener = listener;
+		} catch (IOException e) {
+			logger.error("Error when open the notification listener on port " + trapListenerPort + " " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Hand a notification over to {@link #notificationExecutor}, called on the listener thread
+	 *
+	 * @param bindings the variable bindings of the notification
+	 */
+	private void enqueueNotification(List<VariableBinding> bindings) {
+		ExecutorService executor = notificationExecutor;
+		if (executor == null) {
+			return;
+		}
+		try {
+			executor.execute(() -> applyNotification(bindings));
+		} catch (RejectedExecutionException e) {
+			logger.debug("The notification is ignored, the adapter is destroyed");
+		}
+	}
+
+	/**
+	 * Publish the outlet states and meters carried by a notification, the other objects are ignored.
+	 * The values are cached and the statistics are rebuilt from the cache by the next poll, called on {@link #notificationExecutor}
+	 *
+	 * @param bindings the variable bindings of the notification
+	 */
+	private void applyNotification(List<VariableBinding> bindings) {
+		List<AtenPDUMonitoringCommand> commands = model.getMonitoringCommands();
+		Map<String, String> cachedValues = new HashMap<>();
+		Map<String, String> values = new HashMap<>();
+		for (VariableBinding binding : bindings) {
+			AtenPDUMonitoringCommand command = snmpObjects.findCommand(binding.getOid(), commands);
+			String value = command == null ? null : AtenPDUSnmpObjects.decodeValue(command.getType(), binding.getVariable());
+			if (value == null) {
+				continue;
+			}
+			cachedValues.put(command.getName(), value);
+			if (command.getType() == AtenPDUCommand.OUTLET_STATUS) {
+				value = OutletStatusEnum.ON.getValue().equals(value) ? AtenPDUConstant.NUMBER_ONE : AtenPDUConstant.NUMBER_ZERO;
+			}
+			values.put(command.getName(), value);
+		}
+		if (values.isEmpty()) {
+			return;
+		}
+		// a poll publishing the values it read before the notification must not overwrite it
+		reentrantLock.lock();
+		try {
+			cacheKeyAndValue.putAll(cachedValues);
+			controlVersion++;
+			statisticsSnapshot.updateAndGet(snapshot -> snapshot == null ? null : snapshot.withControlValues(values));
+		} finally {
+			reentrantLock.unlock();
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Notification received for " + values.keySet());
+		}
+	}
+
+	/**
+	 * Retrieve the time to wait for a response of {@link #transport}
+	 *
+	 * @return the SNMP timeout bounded by the remaining budget of the current operation deadline
+	 */
+	private long getTransportTimeout() {
+		return Math.min(getRemainingBudget(), Math.max(getSnmpTimeout(), 1));
+	}
+
+	/**
+	 * Parse {@link #trendWindows}, the invalid windows are ignored
+	 *
+	 * @return the trend windows in milliseconds
+	 */
+	private long[] parseTrendWindows() {
+		if (StringUtils.isNullOrEmpty(trendWindows)) {
+			return new long[0];
+		}
+		String[] windows = trendWindows.split(",");
+		long[] windowValues = new long[windows.length];
+		int count = 0;
+		for (String window : windows) {
+			long windowValue = getPropertyValue(window, 0, 0);
+			if (windowValue >= 1000) {
+				windowValues[count++] = windowValue;
+			} else {
+				logger.warn(String.format("The trend window %s is ignored, it must be at least 1000 ms", window));
+			}
+		}
+		return Arrays.copyOf(windowValues, count);
+	}
+
+	/**
+	 * Retrieve monitoring data from the remote device
+	 *
+	 * Commands with an open circuit breaker are skipped and reported as failed, while every breaker is open
+	 * a single probe command is sent and the remaining commands are retrieved only if the probe succeeds
+	 */
+	private void retrieveMonitoring() throws Exception {
+		if (isModelDiscoveryPending) {
+			discoverModel();
+		}
+		List<AtenPDUMonitoringCommand> dueCommands = selectDueCommands();
+		boolean isProbing = !isAnyCircuitBreakerClosed();
+		List<AtenPDUMonitoringCommand> commands = selectAllowedCommands(dueCommands, System.currentTimeMillis());
+		sendMonitoringCommands(commands);
+		if (isProbing && !commands.isEmpty() && isAnyCircuitBreakerClosed()) {
+			// the probe succeeded, the device is reachable again
+			for (AtenPDUCircuitBreaker circuitBreaker : circuitBreakers) {
+				circuitBreaker.halfOpen();
+			}
+			failedMonitor.clear();
+			List<AtenPDUMonitoringCommand> remainingCommands = new ArrayList<>(selectAllowedCommands(dueCommands, System.currentTimeMillis()));
+			remainingCommands.removeAll(commands);
+			sendMonitoringCommands(remainingCommands);
+		}
+	}
+
+	/**
+	 * Check if the circuit breaker of at least one monitoring command is closed
+	 *
+	 * @return true if at least one monitoring command is healthy
+	 */
+	private boolean isAnyCircuitBreakerClosed() {
+		for (AtenPDUCircuitBreaker circuitBreaker : circuitBreakers) {
+			if (circuitBreaker.getState() == AtenPDUCircuitBreaker.State.CLOSED) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Select the monitoring commands due during the current poll according to their polling interval multiplier,
+	 * the other commands are added to {@link #skippedMonitor} and keep their previous value
+	 *
+	 * @return the due commands
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private List<AtenPDUMonitoringCommand> selectDueCommands() {
+		List<AtenPDUMonitoringCommand> monitoringCommands = model.getMonitoringCommands();
+		if (commandPollingMultipliers.length == 0) {
+			return monitoringCommands;
+		}
+		List<AtenPDUMonitoringCommand> dueCommands = new ArrayList<>(monitoringCommands.size());
+		for (AtenPDUMonitoringCommand command : monitoringCommands) {
+			if (pollCount % commandPollingMultipliers[command.getIndex()] == 0) {
+				dueCommands.add(command);
+			} else {
+				skippedMonitor.set(command.getIndex());
+			}
+		}
+		return dueCommands;
+	}
 
 	/**
-	 * isEmergencyDelivery to check if control flow is trigger
+	 * Select the monitoring commands allowed by their circuit breaker, the skipped commands are added to {@link #failedMonitor}
+	 *
+	 * @param monitoringCommands the commands due during the current poll
+	 * @param now current time in milliseconds
+	 * @return the commands to send, a single probe command if every circuit breaker is open
 	 */
-	private boolean isEmergencyDelivery;
+	private List<AtenPDUMonitoringCommand> selectAllowedCommands(List<AtenPDUMonitoringCommand> monitoringCommands, long now) {
+		boolean allClosed = true;
+		for (AtenPDUCircuitBreaker circuitBreaker : circuitBreakers) {
+			allClosed &= circuitBreaker.getState() == AtenPDUCircuitBreaker.State.CLOSED;
+		}
+		if (allClosed) {
+			return monitoringCommands;
+		}
+		boolean anyClosed = isAnyCircuitBreakerClosed();
+		List<AtenPDUMonitoringCommand> allowedCommands = new ArrayList<>();
+		for (AtenPDUMonitoringCommand command : monitoringCommands) {
+			AtenPDUCircuitBreaker circuitBreaker = circuitBreakers[command.getIndex()];
+			if ((anyClosed || allowedCommands.isEmpty()) && circuitBreaker.allowRequest(now)) {
+				allowedCommands.add(command);
+			} else {
+				failedMonitor.put(command.getCommand(), String.format("Skip %s, the command failed %s times in a row", command.getName(),
+						circuitBreaker.getConsecutiveFailures()));
+			}
+		}
+		return allowedCommands;
+	}
 
 	/**
-	 * Constructor for AtenPDUCommunicator class
+	 * Send monitoring commands and record their result in the circuit breakers
+	 *
+	 * @param commands list of monitoring commands
 	 */
-	public AtenPDUCommunicator() {
-		this.setCommandErrorList(Collections.singletonList("Command incorrect"));
-		this.setCommandSuccessList(Collections.singletonList("> "));
-		this.setLoginSuccessList(Collections.singletonList("> "));
-		this.setLoginErrorList(Collections.singletonList("Permission denied, please try again."));
+	private void sendMonitoringCommands(List<AtenPDUMonitoringCommand> commands) throws Exception {
+		List<AtenPDUMonitoringCommand> pendingCommands = commands;
+		if (transport != null && !pendingCommands.isEmpty() && getRemainingBudget() > 0) {
+			pendingCommands = retrieveMonitoringByTransport(pendingCommands);
+		}
+		boolean isSharedChannel = controlChannel == null;
+		if (AtenPDUConstant.TRUE.equalsIgnoreCase(bulkStatusRead) && pendingCommands.size() > 1) {
+			if (isSharedChannel) {
+				drainControlQueue();
+			}
+			if (getRemainingBudget() > 0) {
+				pendingCommands = retrieveMonitoringInBulk(pendingCommands);
+			}
+		}
+		for (AtenPDUMonitoringCommand command : pendingCommands) {
+			if (isSharedChannel) {
+				drainControlQueue();
+			}
+			if (getRemainingBudget() <= 0) {
+				staleMonitor.set(command.getIndex());
+				continue;
+			}
+			String response = sendCommand(command.getCommand());
+			if (!AtenPDUConstant.NONE.equals(response)) {
+				updateMonitoringValue(command, response, 0, response.length());
+			}
+		}
+		long now = System.currentTimeMillis();
+		for (AtenPDUMonitoringCommand command : commands) {
+			if (staleMonitor.get(command.getIndex())) {
+				continue;
+			}
+			if (failedMonitor.containsKey(command.getCommand())) {
+				circuitBreakers[command.getIndex()].recordFailure(now);
+			} else {
+				circuitBreakers[command.getIndex()].recordSuccess();
+			}
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
+	 * Retrieve monitoring data of all given commands through {@link #transport}
 	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * @param commands list of monitoring commands
+	 * @return list of commands which could not be resolved by the transport and need to be sent through SSH
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (isInitialized()) {
-			long pingResultTotal = 0L;
-
-			for (int i = 0; i < this.getPingAttempts(); i++) {
-				long startTime = System.currentTimeMillis();
-
-				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-					puSocketConnection.setSoTimeout(this.getPingTimeout());
-					if (puSocketConnection.isConnected()) {
-						long pingResult = System.currentTimeMillis() - startTime;
-						pingResultTotal += pingResult;
-						if (this.logger.isTraceEnabled()) {
-							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-						}
-					} else {
-						if (this.logger.isDebugEnabled()) {
-							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-						}
-						return this.getPingTimeout();
-					}
-				} catch (SocketTimeoutException | ConnectException tex) {
-					throw new SocketTimeoutException("Socket connection timed out");
-				} catch (UnknownHostException tex) {
-					throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
-				} catch (Exception e) {
-					if (this.logger.isWarnEnabled()) {
-						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-					}
-					return this.getPingTimeout();
-				}
+	private List<AtenPDUMonitoringCommand> retrieveMonitoringByTransport(List<AtenPDUMonitoringCommand> commands) {
+		String[] values;
+		long startTime = System.nanoTime();
+		try {
+			values = transport.read(commands, getTransportTimeout());
+			recordMetric(AtenPDUMetricEnum.MONITORING_COMMAND, startTime, false);
+		} catch (IOException e) {
+			recordMetric(AtenPDUMetricEnum.MONITORING_COMMAND, startTime, true);
+			logger.error("Error when retrieve the monitoring data by " + connectionMode + ", falling back to SSH " + e.getMessage());
+			return commands;
+		}
+		List<AtenPDUMonitoringCommand> unresolvedCommands = Collections.emptyList();
+		for (int i = 0; i < commands.size(); i++) {
+			if (values[i] != null) {
+				updateCachedValue(commands.get(i).getName(), values[i]);
+				continue;
 			}
-			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-		} else {
-			throw new IllegalStateException("Cannot use device class without calling init() first");
+			if (unresolvedCommands.isEmpty()) {
+				unresolvedCommands = new ArrayList<>();
+			}
+			unresolvedCommands.add(commands.get(i));
+		}
+		if (!unresolvedCommands.isEmpty() && logger.isDebugEnabled()) {
+			logger.debug(String.format("Unable to resolve %s command(s) by %s, falling back to SSH", unresolvedCommands.size(), connectionMode));
 		}
+		return unresolvedCommands;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieve monitoring data of all given commands with a single pipelined request
+	 *
+	 * @param commands list of monitoring commands
+	 * @return list of commands which could not be resolved from the pipelined response and need to be sent separately
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-		Map<String, String> stats = new HashMap<>();
-		reentrantLock.lock();
-
+	private List<AtenPDUMonitoringCommand> retrieveMonitoringInBulk(List<AtenPDUMonitoringCommand> commands) throws Exception {
+		String response;
+		long startTime = System.nanoTime();
 		try {
-			this.timeout = controlSSHTimeout;
-			if (!isEmergencyDelivery) {
-				retrieveMonitoring();
-				if (failedMonitor.size() == AtenPDUConstant.NUMBER_OF_MONITORING_DATA) {
-					StringBuilder sb = new StringBuilder();
-					failedMonitor.forEach((failedMonitorGroupName, message) -> sb.append(message).append("\n"));
-					throw new ResourceNotReachableException("Error while getting monitoring data, " + sb);
-				}
-				populateMonitoringAndControllingData(stats, advancedControllableProperties);
-				extendedStatistics.setControllableProperties(advancedControllableProperties);
-				extendedStatistics.setStatistics(stats);
-				localExtendedStatistics = extendedStatistics;
+			response = sendPipelinedCommands(commands);
+			recordMetric(AtenPDUMetricEnum.MONITORING_COMMAND, startTime, false);
+		} catch (FailedLoginException e) {
+			recordMetric(AtenPDUMetricEnum.MONITORING_COMMAND, startTime, true);
+			throw new FailedLoginException("Login failure, check credentials and try again.");
+		} catch (Exception e) {
+			recordMetric(AtenPDUMetricEnum.MONITORING_COMMAND, startTime, true);
+			for (AtenPDUMonitoringCommand command : commands) {
+				failedMonitor.put(command.getCommand(), e.getMessage());
 			}
-			isEmergencyDelivery = false;
-		} finally {
-			this.timeout = statisticsSSHTimeout;
-			reentrantLock.unlock();
+			logger.error("Error when execute pipelined commands " + e.getMessage());
+			return Collections.emptyList();
 		}
 
-		return Collections.singletonList(localExtendedStatistics);
+		int[] replies = AtenPDUResponseParser.locateReplies(response, commands);
+		List<AtenPDUMonitoringCommand> unresolvedCommands = Collections.emptyList();
+		for (int i = 0; i < commands.size(); i++) {
+			int replyStart = replies[2 * i];
+			if (replyStart < 0 || !updateMonitoringValue(commands.get(i), response, replyStart, replies[2 * i + 1])) {
+				if (unresolvedCommands.isEmpty()) {
+					unresolvedCommands = new ArrayList<>();
+				}
+				unresolvedCommands.add(commands.get(i));
+			}
+		}
+		if (!unresolvedCommands.isEmpty() && logger.isDebugEnabled()) {
+			logger.debug(String.format("Unable to resolve %s command(s) from the pipelined response, falling back to single commands", unresolvedCommands.size()));
+		}
+		return unresolvedCommands;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Update the cached monitoring value of a command from its reply
+	 *
+	 * @param command the monitoring command
+	 * @param response the raw response containing the reply
+	 * @param start index of the first character of the reply
+	 * @param end index after the last character of the reply
+	 * @return true if a valid value is found in the reply
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> list) throws Exception {
-		if (CollectionUtils.isEmpty(list)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+	private boolean updateMonitoringValue(AtenPDUMonitoringCommand command, String response, int start, int end) {
+		if (command.getType() == AtenPDUCommand.OUTLET_STATUS) {
+			OutletStatusEnum outletStatus = AtenPDUResponseParser.parseOutletStatus(response, start, end);
+			updateCachedValue(command.getName(), outletStatus == null ? AtenPDUConstant.NONE : outletStatus.getValue());
+			return outletStatus != null;
 		}
+		if (command.isMetering()) {
+			String meterValue = AtenPDUResponseParser.parseMeterValue(response, start, end);
+			updateCachedValue(command.getName(), meterValue == null ? AtenPDUConstant.NONE : meterValue);
+			return meterValue != null;
+		}
+		logger.debug(String.format("The adapter can't support monitoring properties name: %s", command.getName()));
+		return false;
+	}
 
-		for (ControllableProperty p : list) {
-			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
-			}
+	/**
+	 * Update a cached monitoring value and record the property in {@link #changedMonitor} if the value changed
+	 *
+	 * @param name name of the property
+	 * @param value the retrieved value
+	 */
+	private void updateCachedValue(String name, String value) {
+		if (!value.equals(cacheKeyAndValue.put(name, value))) {
+			changedMonitor.add(name);
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Send the commands of the controls to the device and update the local statistics with the controlled values in one update,
+	 * the switch commands are written as a single burst and a reboot is sent last since it closes the shell
+	 *
+	 * @param controls values to set by property
+	 * @throws IllegalArgumentException if any of the controls failed, the successful ones are still applied
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
-		try {
-			this.timeout = controlSSHTimeout;
-			if (this.localExtendedStatistics == null || this.localExtendedStatistics.getStatistics() == null) {
-				return;
+	private void executeControls(Map<String, String> controls) throws Exception {
+		executeControls(controls, Collections.emptyMap());
+	}
+
+	/**
+	 * Send the commands of the controls already recorded in {@link #controlJournal}, see {@link #executeControls(Map)}
+	 *
+	 * @param controls values to set by property
+	 * @param journalIds ids of the recorded controls by property, the controls without id are recorded when they're sent
+	 * @throws IllegalArgumentException if any of the controls failed, the successful ones are still applied
+	 */
+	private void executeControls(Map<String, String> controls, Map<String, Long> journalIds) throws Exception {
+		AtenPDUModel currentModel = model;
+		List<String> switchCommands = new ArrayList<>(controls.size());
+		List<Integer> switchOutlets = new ArrayList<>(controls.size());
+		List<String> switchProperties = new ArrayList<>(controls.size());
+		List<String> switchValues = new ArrayList<>(controls.size());
+		String rebootValue = null;
+		for (Map.Entry<String, String> control : controls.entrySet()) {
+			String controlProperty = control.getKey();
+			int outlet = currentModel.getOutletNumber(controlProperty);
+			if (outlet > 0) {
+				switchCommands.add(currentModel.getSwitchCommand(outlet, AtenPDUConstant.NUMBER_ONE.equalsIgnoreCase(control.getValue())));
+				switchOutlets.add(outlet);
+				switchProperties.add(controlProperty);
+				switchValues.add(control.getValue());
+			} else if (AtenPDUCommand.REBOOT.getName().equals(controlProperty)) {
+				rebootValue = control.getValue();
+			} else {
+				logger.debug("The property doesn't support " + controlProperty);
+				journalCompletion(journalIds.getOrDefault(controlProperty, -1L), AtenPDUControlJournal.Status.ABANDONED, "The property is not supported");
 			}
-			isEmergencyDelivery = true;
-			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
-			String value = String.valueOf(controllableProperty.getValue());
-			String property = controllableProperty.getProperty();
-
-			AtenPDUPropertiesEnum controlProperty = AtenPDUPropertiesEnum.getByName(property);
-			switch (controlProperty) {
-				case OUTLET_STATUS_1:
-				case OUTLET_STATUS_2:
-				case OUTLET_STATUS_3:
-				case OUTLET_STATUS_4:
-					String outletNumber = getOutletNumber(controlProperty);
-					Optional<OutletStatusEnum> outletStatus = OutletStatusEnum.getByValue(value.equalsIgnoreCase("1") ? AtenPDUConstant.ON : AtenPDUConstant.OFF);
-					if (outletStatus.isPresent()) {
-						sendCommandToControlDevice(controlProperty.getName(), AtenPDUCommand.getSwitchControlCommand(outletNumber, outletStatus.get().getValue()));
+		}
+		Map<String, String> controlledValues = new HashMap<>();
+		List<String> failedControls = new ArrayList<>();
+		Exception error = null;
+		if (!switchCommands.isEmpty()) {
+			long[] switchJournalIds = new long[switchProperties.size()];
+			for (int i = 0; i < switchProperties.size(); i++) {
+				Long journalId = journalIds.get(switchProperties.get(i));
+				switchJournalIds[i] = journalId != null ? journalId : journalRequest(switchProperties.get(i), switchValues.get(i));
+			}
+			try {
+				boolean[] acknowledged = sendSwitchControls(switchOutlets, switchValues, switchCommands);
+				for (int i = 0; i < switchProperties.size(); i++) {
+					String name = switchProperties.get(i);
+					if (!acknowledged[i]) {
+						failedControls.add(name);
+						journalCompletion(switchJournalIds[i], AtenPDUControlJournal.Status.FAILED, "The command is not acknowledged");
+						continue;
 					}
-					break;
-				case REBOOT:
-					sendCommandToControlDevice(controlProperty.getName(), AtenPDUCommand.REBOOT.getCommand());
-					break;
-				default:
-					logger.debug("The property doesn't support " + property);
-					break;
+					cacheKeyAndValue.put(name, AtenPDUConstant.NUMBER_ONE.equalsIgnoreCase(switchValues.get(i)) ? OutletStatusEnum.ON.getValue() : OutletStatusEnum.OFF.getValue());
+					controlledValues.put(name, switchValues.get(i));
+					journalCompletion(switchJournalIds[i], AtenPDUControlJournal.Status.SUCCEEDED, AtenPDUConstant.EMPTY);
+				}
+			} catch (FailedLoginException e) {
+				for (long journalId : switchJournalIds) {
+					journalCompletion(journalId, AtenPDUControlJournal.Status.FAILED, "Login failure");
+				}
+				throw new FailedLoginException("Login failure, check credential and try again.");
+			} catch (Exception e) {
+				for (long journalId : switchJournalIds) {
+					journalCompletion(journalId, AtenPDUControlJournal.Status.FAILED, e.getMessage());
+				}
+				failedControls.addAll(switchProperties);
+				error = e;
+			}
+		}
+		if (rebootValue != null) {
+			Long rebootJournalId = journalIds.get(AtenPDUCommand.REBOOT.getName());
+			long journalId = rebootJournalId != null ? rebootJournalId : journalRequest(AtenPDUCommand.REBOOT.getName(), rebootValue);
+			try {
+				sendCommandToControlDevice(AtenPDUCommand.REBOOT.getName(), AtenPDUCommand.REBOOT.getCommand());
+				controlledValues.put(AtenPDUCommand.REBOOT.getName(), rebootValue);
+				journalCompletion(journalId, AtenPDUControlJournal.Status.SUCCEEDED, AtenPDUConstant.EMPTY);
+			} catch (FailedLoginException e) {
+				journalCompletion(journalId, AtenPDUControlJournal.Status.FAILED, "Login failure");
+				throw e;
+			} catch (Exception e) {
+				journalCompletion(journalId, AtenPDUControlJournal.Status.FAILED, e.getMessage());
+				failedControls.add(AtenPDUCommand.REBOOT.getName());
+				error = e;
 			}
-			updateLocalControlValue(stats, advancedControllableProperties, property, value);
-		} finally {
-			this.timeout = statisticsSSHTimeout;
-			reentrantLock.unlock();
+		}
+		if (!controlledValues.isEmpty()) {
+			controlVersion++;
+			isEmergencyDelivery = true;
+			statisticsSnapshot.updateAndGet(snapshot -> snapshot == null ? null : snapshot.withControlValues(controlledValues));
+		}
+		if (!failedControls.isEmpty()) {
+			throw new IllegalArgumentException(String.format("Error when control %s", failedControls), error);
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Queue a control and record it in {@link #controlJournal}, the pending control of the same property is replaced and
+	 * a reboot supersedes all queued switch controls, the replaced controls are recorded as abandoned
+	 *
+	 * @param controlProperty the property to control
+	 * @param value the value to set
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics = null;
+	private void enqueueControl(String controlProperty, String value) {
+		long journalId = journalRequest(controlProperty, value);
+		ExecutorService executor;
+		synchronized (pendingControls) {
+			if (AtenPDUCommand.REBOOT.getName().equals(controlProperty)) {
+				if (!pendingControls.isEmpty()) {
+					logger.warn(String.format("The pending controls %s are dropped, superseded by a reboot", pendingControls.keySet()));
+				}
+				for (PendingControl pendingControl : pendingControls.values()) {
+					journalCompletion(pendingControl.journalId, AtenPDUControlJournal.Status.ABANDONED, "Superseded by a reboot");
+				}
+				pendingControls.clear();
+			}
+			PendingControl replacedControl = pendingControls.remove(controlProperty);
+			if (replacedControl != null) {
+				journalCompletion(replacedControl.journalId, AtenPDUControlJournal.Status.ABANDONED, "Superseded by a later control of " + controlProperty);
+			}
+			pendingControls.put(controlProperty, new PendingControl(value, journalId));
+			if (controlExecutor == null) {
+				controlExecutor = Executors.newSingleThreadExecutor(runnable -> {
+					Thread thread = new Thread(runnable, "AtenPDU control queue " + host);
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+			executor = controlExecutor;
 		}
-		failedMonitor.clear();
-		cacheKeyAndValue.clear();
-		super.internalDestroy();
+		executor.execute(() -> {
+			ReentrantLock lock = getControlLock();
+			lock.lock();
+			try {
+				drainControlQueue();
+			} finally {
+				lock.unlock();
+			}
+		});
 	}
 
 	/**
-	 * Retrieve monitoring data from the remote device
+	 * Execute all queued controls, must be called while holding the lock returned by {@link #getControlLock()}
 	 */
-	private void retrieveMonitoring() throws Exception {
-		for (AtenPDUCommand command : AtenPDUCommand.values()) {
-			if (command.isMonitoring()) {
-				String response = sendCommand(command.getCommand());
-				switch (command) {
-					case OUTLET_STATUS_1:
-					case OUTLET_STATUS_2:
-					case OUTLET_STATUS_3:
-					case OUTLET_STATUS_4:
-                        String[] responseItems = response.split("\r\n");
-						if (responseItems.length > 1) {
-							cacheKeyAndValue.put(command.getName(), getDefaultValueOrNone(responseItems[1].trim()));
-						}
-						break;
-					default:
-						logger.debug(String.format("The adapter can't support monitoring properties name: %s", command.getName()));
-						break;
+	private void drainControlQueue() {
+		while (true) {
+			Map<String, String> controls = new LinkedHashMap<>();
+			Map<String, Long> journalIds = new HashMap<>();
+			synchronized (pendingControls) {
+				if (pendingControls.isEmpty()) {
+					return;
 				}
+				for (Map.Entry<String, PendingControl> pendingControl : pendingControls.entrySet()) {
+					controls.put(pendingControl.getKey(), pendingControl.getValue().value);
+					journalIds.put(pendingControl.getKey(), pendingControl.getValue().journalId);
+				}
+				pendingControls.clear();
+			}
+			Long previousDeadline = startDeadline(getControlDeadlineValue());
+			try {
+				executeControls(controls, journalIds);
+			} catch (Exception e) {
+				logger.error(String.format("Error when control properties %s", controls.keySet()), e);
+			} finally {
+				restoreDeadline(previousDeadline);
 			}
 		}
 	}
@@ -282,33 +3092,34 @@ public class AtenPDUCommunicator extends SshCommunicator implements Monitorable,
 	 * Populate monitoring and controlling data
 	 *
 	 * @param stats the stats are list of statistics
-	 * @param advancedControllableProperties the list of AdvancedControllableProperty
+	 * @param advancedControllableProperties the list of AdvancedControllableProperty, null to populate the statistics only
 	 */
 	private void populateMonitoringAndControllingData(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		for (AtenPDUPropertiesEnum property : AtenPDUPropertiesEnum.values()) {
-			String key = property.getName();
-			String data = AtenPDUConstant.NONE.equals(getDefaultValueOrNone(cacheKeyAndValue.get(key))) ? AtenPDUConstant.NONE : cacheKeyAndValue.get(key);
-			switch (property) {
-				case OUTLET_STATUS_1:
-				case OUTLET_STATUS_2:
-				case OUTLET_STATUS_3:
-				case OUTLET_STATUS_4:
-					if (AtenPDUConstant.NONE.equals(data) || !OutletStatusEnum.getByValue(data).isPresent()) {
-						stats.put(key, AtenPDUConstant.NONE);
-						continue;
-					}
-					int initialValue = OutletStatusEnum.ON.getName().equals(OutletStatusEnum.getByValue(data).get().getName()) ? 1 : 0;
-					stats.put(key, String.valueOf(initialValue));
-					AdvancedControllableProperty outletControl = createSwitch(key, initialValue);
-					advancedControllableProperties.add(outletControl);
-					break;
-				case REBOOT:
-					stats.put(key, AtenPDUConstant.EMPTY);
-					advancedControllableProperties.add(createButton(key, AtenPDUConstant.SYSTEM_REBOOT, AtenPDUConstant.EMPTY, 0L));
-					break;
-				default:
-					logger.debug(String.format("The adapter can't support properties name: %s", property));
-					break;
+		AtenPDUModel currentModel = model;
+		for (int outlet = 1; outlet <= currentModel.getOutletCount(); outlet++) {
+			if (!currentModel.isMonitored(outlet)) {
+				continue;
+			}
+			String key = currentModel.getOutletName(outlet);
+			Optional<OutletStatusEnum> outletStatus = OutletStatusEnum.getByValue(cacheKeyAndValue.get(key));
+			if (!outletStatus.isPresent()) {
+				stats.put(key, AtenPDUConstant.NONE);
+				continue;
+			}
+			int initialValue = outletStatus.get() == OutletStatusEnum.ON ? 1 : 0;
+			stats.put(key, initialValue == 1 ? AtenPDUConstant.NUMBER_ONE : AtenPDUConstant.NUMBER_ZERO);
+			if (advancedControllableProperties != null) {
+				advancedControllableProperties.add(createSwitch(key, initialValue));
+			}
+		}
+		String rebootKey = AtenPDUCommand.REBOOT.getName();
+		stats.put(rebootKey, AtenPDUConstant.EMPTY);
+		if (advancedControllableProperties != null) {
+			advancedControllableProperties.add(createButton(rebootKey, AtenPDUConstant.SYSTEM_REBOOT, AtenPDUConstant.EMPTY, 0L));
+		}
+		for (AtenPDUMonitoringCommand command : currentModel.getMonitoringCommands()) {
+			if (command.isMetering()) {
+				stats.put(command.getName(), cacheKeyAndValue.getOrDefault(command.getName(), AtenPDUConstant.NONE));
 			}
 		}
 	}
@@ -320,21 +3131,127 @@ public class AtenPDUCommunicator extends SshCommunicator implements Monitorable,
 	 * @return response from the remote the device
 	 */
 	private String sendCommand(String command) throws Exception {
+		long startTime = System.nanoTime();
+		boolean isError = true;
 		try {
 			String response = this.send(command.contains("\r") ? command : command.concat("\r"));
 			if (StringUtils.isNullOrEmpty(response)) {
 				throw new IllegalArgumentException("The response is empty or null");
 			}
-			return response.replace(">", "");
+			isError = false;
+			return response;
 		} catch (FailedLoginException e) {
 			throw new FailedLoginException("Login failure, check credentials and try again.");
 		} catch (Exception e) {
 			failedMonitor.put(command, e.getMessage());
 			logger.error("Error when execute command " + e.getMessage());
+		} finally {
+			recordMetric(AtenPDUMetricEnum.MONITORING_COMMAND, startTime, isError);
 		}
 		return AtenPDUConstant.NONE;
 	}
 
+	/**
+	 * This method is used to write a batch of commands back-to-back to the shell in a single request,
+	 * the replies are delimited by prompt and can be mapped back to their command with
+	 * {@link AtenPDUResponseParser#locateReplies(String, List)}
+	 *
+	 * @param commands list of commands to be sent to the remote device
+	 * @return raw response containing the replies of all commands
+	 * @throws Exception if the request failed
+	 */
+	private String sendPipelinedCommands(List<AtenPDUMonitoringCommand> commands) throws Exception {
+		StringBuilder batch = new StringBuilder();
+		for (AtenPDUMonitoringCommand command : commands) {
+			batch.append(command.getCommand()).append(AtenPDUConstant.CARRIAGE_RETURN);
+		}
+		return sendBatch(this, batch.toString(), commands.size());
+	}
+
+	/**
+	 * Switch outlets through {@link #transport} with a single request, or through SSH if there is no transport
+	 * or the transport fails
+	 *
+	 * @param outlets the outlet numbers
+	 * @param values the new values by outlet position
+	 * @param commands the SSH switch commands by outlet position
+	 * @return true by outlet position if the switch is acknowledged
+	 * @throws Exception if the SSH request failed
+	 */
+	private boolean[] sendSwitchControls(List<Integer> outlets, List<String> values, List<String> commands) throws Exception {
+		boolean[] acknowledged = new boolean[outlets.size()];
+		AtenPDUTransport currentTransport = transport;
+		if (currentTransport != null) {
+			int[] outletNumbers = new int[outlets.size()];
+			boolean[] states = new boolean[outlets.size()];
+			for (int i = 0; i < outletNumbers.length; i++) {
+				outletNumbers[i] = outlets.get(i);
+				states[i] = AtenPDUConstant.NUMBER_ONE.equalsIgnoreCase(values.get(i));
+			}
+			long startTime = System.nanoTime();
+			try {
+				currentTransport.switchOutlets(outletNumbers, states, getTransportTimeout());
+				recordMetric(AtenPDUMetricEnum.CONTROL_COMMAND, startTime, false);
+				Arrays.fill(acknowledged, true);
+				return acknowledged;
+			} catch (IOException e) {
+				recordMetric(AtenPDUMetricEnum.CONTROL_COMMAND, startTime, true);
+				logger.error("Error when switch the outlets by " + connectionMode + ", falling back to SSH " + e.getMessage());
+			}
+		}
+		int[] replies = sendControlCommands(commands);
+		for (int i = 0; i < acknowledged.length; i++) {
+			acknowledged[i] = replies[2 * i] >= 0;
+		}
+		return acknowledged;
+	}
+
+	/**
+	 * This method is used to write a burst of control commands back-to-back to the shell in a single request
+	 *
+	 * @param commands list of raw control commands
+	 * @return array of [start, end) index pairs of the replies by command, both -1 if the command isn't acknowledged
+	 * @throws Exception if the request failed
+	 */
+	private int[] sendControlCommands(List<String> commands) throws Exception {
+		StringBuilder batch = new StringBuilder();
+		for (String command : commands) {
+			batch.append(command).append(AtenPDUConstant.CARRIAGE_RETURN);
+		}
+		long startTime = System.nanoTime();
+		boolean isError = true;
+		try {
+			int[] replies = AtenPDUResponseParser.locateCommandReplies(sendBatch(getControlChannel(), batch.toString(), commands.size()), commands);
+			isError = false;
+			return replies;
+		} finally {
+			recordMetric(AtenPDUMetricEnum.CONTROL_COMMAND, startTime, isError);
+		}
+	}
+
+	/**
+	 * Send a batch of commands and wait for the prompt of each of them
+	 *
+	 * @param channel the session to send the batch through
+	 * @param batch the commands separated by carriage return
+	 * @param commandCount number of commands in the batch
+	 * @return raw response containing the replies of all commands
+	 * @throws Exception if the request failed
+	 */
+	private String sendBatch(ShellCommunicator channel, String batch, int commandCount) throws Exception {
+		String response;
+		expectedPromptCount.set(commandCount);
+		try {
+			response = channel.send(batch);
+		} finally {
+			expectedPromptCount.remove();
+		}
+		if (StringUtils.isNullOrEmpty(response)) {
+			throw new IllegalArgumentException("The response is empty or null");
+		}
+		return response;
+	}
+
 	/**
 	 * This method is used to send command to control device
 	 *
@@ -342,62 +3259,197 @@ public class AtenPDUCommunicator extends SshCommunicator implements Monitorable,
 	 * @param command to send to device
 	 */
 	private void sendCommandToControlDevice(String name, String command) throws Exception {
+		long startTime = System.nanoTime();
+		boolean isError = true;
 		try {
-			String response = this.send(command.contains("\r") ? command : command.concat("\r"));
+			String response = getControlChannel().send(command.contains("\r") ? command : command.concat("\r"));
 			if (StringUtils.isNullOrEmpty(response)) {
 				throw new IllegalArgumentException(String.format("Error when control %s, Syntax error command: %s", name, command));
 			}
+			isError = false;
 		}catch (FailedLoginException e) {
 			throw new FailedLoginException("Login failure, check credential and try again.");
 		} catch (Exception e) {
 			throw new IllegalArgumentException(String.format("Error when control %s", name), e);
+		} finally {
+			recordMetric(AtenPDUMetricEnum.CONTROL_COMMAND, startTime, isError);
 		}
 	}
 
 	/**
-	 * Check null value
+	 * Record the latency of an operation
+	 *
+	 * @param metric the measured operation
+	 * @param startTime {@link System#nanoTime()} when the operation started
+	 * @param isError true if the operation failed
+	 */
+	private void recordMetric(AtenPDUMetricEnum metric, long startTime, boolean isError) {
+		long latency = System.nanoTime() - startTime;
+		metrics.get(metric).record(latency, isError);
+		if (!isError && (metric == AtenPDUMetricEnum.MONITORING_COMMAND || metric == AtenPDUMetricEnum.CONTROL_COMMAND)) {
+			lastRoundTripTime = System.currentTimeMillis();
+			lastRoundTrip = TimeUnit.NANOSECONDS.toMillis(latency);
+		}
+	}
+
+	/**
+	 * Populate the latency and error summaries of the operations measured since the previous poll
+	 *
+	 * @param stats the stats are list of statistics
+	 */
+	private void populateMetrics(Map<String, String> stats) {
+		for (Map.Entry<AtenPDUMetricEnum, AtenPDULatencyHistogram> metric : metrics.entrySet()) {
+			String prefix = AtenPDUConstant.ADAPTER_METRICS_GROUP + metric.getKey().getName();
+			AtenPDULatencyHistogram histogram = metric.getValue().drain();
+			stats.put(prefix + AtenPDUConstant.METRIC_COUNT, String.valueOf(histogram.getCount()));
+			stats.put(prefix + AtenPDUConstant.METRIC_ERRORS, String.valueOf(histogram.getErrors()));
+			stats.put(prefix + AtenPDUConstant.METRIC_P50, String.valueOf(histogram.getPercentile(0.5)));
+			stats.put(prefix + AtenPDUConstant.METRIC_P99, String.valueOf(histogram.getPercentile(0.99)));
+		}
+	}
+
+	/**
+	 * Retrieve the session used for the control commands
+	 *
+	 * @return the dedicated control session if it's enabled, this communicator otherwise
+	 */
+	private ShellCommunicator getControlChannel() {
+		ShellCommunicator channel = controlChannel;
+		return channel != null ? channel : this;
+	}
+
+	/**
+	 * Retrieve the lock serializing the control commands
+	 *
+	 * @return the lock of the dedicated control session if it's enabled, {@link #reentrantLock} shared with the monitoring otherwise
+	 */
+	private ReentrantLock getControlLock() {
+		return controlChannel != null ? controlLock : reentrantLock;
+	}
+
+	/**
+	 * Check if a prompt has been received for every command of the batch sent by the current thread
 	 *
-	 * @param value value need to check
-	 * @return (none / value)
+	 * @param response the response received so far
+	 * @return true if the response is complete
 	 */
-	private String getDefaultValueOrNone(String value) {
-		return StringUtils.isNullOrEmpty(value) ? AtenPDUConstant.NONE : value;
+	private boolean isBatchComplete(String response) {
+		int expectedPrompts = expectedPromptCount.get();
+		return expectedPrompts <= 1 || countPrompts(response) >= expectedPrompts;
 	}
 
 	/**
-	 * Updates devices' control value, after the control command was executed with the specified value.
+	 * Count the number of shell prompts in a response
 	 *
-	 * @param stats the stats are list of Statistics
-	 * @param advancedControllableProperties the advancedControllableProperty are AdvancedControllableProperty instance
-	 * @param name of the control property
-	 * @param value to set to the control property
+	 * @param response the response received from the device
+	 * @return number of prompts
 	 */
-	private void updateLocalControlValue(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String name, String value) {
-		stats.put(name, value);
-		advancedControllableProperties.stream().filter(advancedControllableProperty ->
-				name.equals(advancedControllableProperty.getName())).findFirst().ifPresent(advancedControllableProperty ->
-				advancedControllableProperty.setValue(value));
+	private int countPrompts(String response) {
+		int count = 0;
+		int index = response.indexOf(AtenPDUConstant.PROMPT_LINE);
+		while (index >= 0) {
+			count++;
+			index = response.indexOf(AtenPDUConstant.PROMPT_LINE, index + AtenPDUConstant.PROMPT_LINE.length());
+		}
+		return count;
 	}
 
 	/**
-	 * Retrieve outlet number from controlProperty
+	 * Check if a property can be controlled on the current model
 	 *
-	 * @param controlProperty outlet property want to control
-	 * @return the outlet number want to get
+	 * @param controlProperty name of the property
+	 * @return true if the property is an outlet of the model or the reboot
+	 */
+	private boolean isControllable(String controlProperty) {
+		return model.getOutletNumber(controlProperty) > 0 || AtenPDUCommand.REBOOT.getName().equals(controlProperty);
+	}
+
+	/**
+	 * Control waiting in {@link #pendingControls} with the id of its record in {@link #controlJournal}
+	 */
+	private static class PendingControl {
+		private final String value;
+		private final long journalId;
+
+		/**
+		 * Constructor for PendingControl class
+		 *
+		 * @param value the value to set
+		 * @param journalId id of the recorded control, -1 if it's not recorded
+		 */
+		PendingControl(String value, long journalId) {
+			this.value = value;
+			this.journalId = journalId;
+		}
+	}
+
+	/**
+	 * Second SSH session to the device used only for the control commands, it shares the response handling and the
+	 * operation deadline of the adapter
 	 */
-	private String getOutletNumber(AtenPDUPropertiesEnum controlProperty) {
-		switch (controlProperty) {
-			case OUTLET_STATUS_1:
-				return AtenPDUConstant.OUTLET1;
-			case OUTLET_STATUS_2:
-				return AtenPDUConstant.OUTLET2;
-			case OUTLET_STATUS_3:
-				return AtenPDUConstant.OUTLET3;
-			case OUTLET_STATUS_4:
-				return AtenPDUConstant.OUTLET4;
-			default:
-				return AtenPDUConstant.EMPTY;
+	private class ControlChannel extends SshCommunicator {
+
+		/**
+		 * Constructor for ControlChannel class
+		 */
+		ControlChannel() {
+			this.setCommandErrorList(AtenPDUCommunicator.this.getCommandErrorList());
+			this.setCommandSuccessList(AtenPDUCommunicator.this.getCommandSuccessList());
+			this.setLoginSuccessList(AtenPDUCommunicator.this.getLoginSuccessList());
+			this.setLoginErrorList(AtenPDUCommunicator.this.getLoginErrorList());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected String send(String data, boolean retry) throws Exception {
+			this.timeout = getCommandTimeout();
+			return super.send(data, retry);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected boolean doneReading(String command, String response) throws CommandFailureException {
+			return isBatchComplete(response) && super.doneReading(command, response);
 		}
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Telnet session to the device used instead of SSH when {@link #connectionMode} is Telnet, it shares the response
+	 * handling and the operation deadline of the adapter
+	 */
+	private class TelnetChannel extends TelnetCommunicator {
+
+		/**
+		 * Constructor for TelnetChannel class
+		 */
+		TelnetChannel() {
+			this.setLoginPrompt(AtenPDUConstant.TELNET_LOGIN_PROMPT);
+			this.setPasswordPrompt(AtenPDUConstant.TELNET_PASSWORD_PROMPT);
+			this.setCommandErrorList(AtenPDUCommunicator.this.getCommandErrorList());
+			this.setCommandSuccessList(AtenPDUCommunicator.this.getCommandSuccessList());
+			this.setLoginSuccessList(AtenPDUCommunicator.this.getLoginSuccessList());
+			this.setLoginErrorList(AtenPDUCommunicator.this.getLoginErrorList());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected String send(String data, boolean retry) throws Exception {
+			this.timeout = getCommandTimeout();
+			return super.send(data, retry);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected boolean doneReading(String command, String response) throws CommandFailureException {
+			return isBatchComplete(response) && super.doneReading(command, response);
+		}
+	}
+}
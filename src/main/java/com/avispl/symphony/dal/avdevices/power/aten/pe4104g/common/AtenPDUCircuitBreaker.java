@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+/**
+ * AtenPDUCircuitBreaker class tracks the health of a single device command
+ *
+ * The breaker opens after a number of consecutive failures, the command is then skipped until the backoff interval
+ * elapsed, a single probe is allowed in half-open state and the backoff is doubled every time the probe fails.
+ * The breaker isn't thread safe, it's used while holding the adapter lock.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUCircuitBreaker {
+
+	/**
+	 * States of the circuit breaker
+	 */
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long initialBackoff;
+	private final long maxBackoff;
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long backoff;
+	private long openUntil;
+
+	/**
+	 * Create a new closed AtenPDUCircuitBreaker
+	 *
+	 * @param failureThreshold number of consecutive failures opening the breaker
+	 * @param initialBackoff time in milliseconds the breaker stays open after it's opened the first time
+	 * @param maxBackoff maximum time in milliseconds the breaker stays open
+	 */
+	public AtenPDUCircuitBreaker(int failureThreshold, long initialBackoff, long maxBackoff) {
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = Math.max(initialBackoff, maxBackoff);
+		this.backoff = initialBackoff;
+	}
+
+	/**
+	 * Check if the command can be sent, an open breaker moves to half-open once its backoff elapsed
+	 *
+	 * @param now current time in milliseconds
+	 * @return true if the command can be sent
+	 */
+	public boolean allowRequest(long now) {
+		if (state == State.OPEN && now >= openUntil) {
+			state = State.HALF_OPEN;
+		}
+		return state != State.OPEN;
+	}
+
+	/**
+	 * Record a successful command, the breaker is closed and the backoff is reset
+	 */
+	public void recordSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		backoff = initialBackoff;
+	}
+
+	/**
+	 * Record a failed command, the breaker is opened if the threshold is reached or if the half-open probe failed
+	 *
+	 * @param now current time in milliseconds
+	 */
+	public void recordFailure(long now) {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN) {
+			backoff = Math.min(maxBackoff, backoff * 2);
+			open(now);
+		} else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+			open(now);
+		}
+	}
+
+	/**
+	 * Allow the next request without waiting for the backoff, used once the device is known to be reachable again
+	 */
+	public void halfOpen() {
+		if (state == State.OPEN) {
+			state = State.HALF_OPEN;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Open the breaker for the current backoff
+	 *
+	 * @param now current time in milliseconds
+	 */
+	private void open(long now) {
+		state = State.OPEN;
+		openUntil = now + backoff;
+	}
+}
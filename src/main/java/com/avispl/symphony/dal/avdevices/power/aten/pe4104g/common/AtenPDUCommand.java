@@ -7,33 +7,51 @@ package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
 /**
  * AtenPDUCommand class defined the enum contains all overall command of the device
  *
+ * The name and command of a per-outlet command are templates formatted with the outlet number,
+ * the commands of a model are built once by {@link AtenPDUModel}. The SNMP object of a per-outlet command is its table column,
+ * the outlet number is appended as the last sub-identifier
+ *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 1/18/2024
  * @since 1.0.0
  */
 public enum AtenPDUCommand {
-	OUTLET_STATUS_1("Outlet1", "read status o01 simple", true),
-	OUTLET_STATUS_2("Outlet2", "read status o02 simple", true),
-	OUTLET_STATUS_3("Outlet3", "read status o03 simple", true),
-	OUTLET_STATUS_4("Outlet4", "read status o04 simple", true),
-	REBOOT("Reboot", "reboot", false);
+	OUTLET_STATUS("Outlet%d", "read status o%02d simple", "1.3.6.1.4.1.21317.1.3.2.2.2.2.1.1.2", true, false, true),
+	DEVICE_CURRENT("Current(A)", "read meter dev curr simple", "1.3.6.1.4.1.21317.1.3.2.2.2.1.1.3.1", true, true, false),
+	DEVICE_VOLTAGE("Voltage(V)", "read meter dev volt simple", "1.3.6.1.4.1.21317.1.3.2.2.2.1.1.4.1", true, true, false),
+	DEVICE_POWER("Power(W)", "read meter dev pow simple", "1.3.6.1.4.1.21317.1.3.2.2.2.1.1.5.1", true, true, false),
+	DEVICE_ENERGY("Energy(kWh)", "read meter dev pd simple", "1.3.6.1.4.1.21317.1.3.2.2.2.1.1.6.1", true, true, false),
+	OUTLET_CURRENT("Outlet%d#Current(A)", "read meter olt o%02d curr simple", "1.3.6.1.4.1.21317.1.3.2.2.2.2.1.1.3", true, true, true),
+	OUTLET_VOLTAGE("Outlet%d#Voltage(V)", "read meter olt o%02d volt simple", "1.3.6.1.4.1.21317.1.3.2.2.2.2.1.1.4", true, true, true),
+	OUTLET_POWER("Outlet%d#Power(W)", "read meter olt o%02d pow simple", "1.3.6.1.4.1.21317.1.3.2.2.2.2.1.1.5", true, true, true),
+	OUTLET_ENERGY("Outlet%d#Energy(kWh)", "read meter olt o%02d pd simple", "1.3.6.1.4.1.21317.1.3.2.2.2.2.1.1.6", true, true, true),
+	REBOOT("Reboot", "reboot", null, false, false, false);
 
 	/**
 	 * AtenPDUCommand constructor
 	 *
 	 * @param name of {@link #name}
 	 * @param command of {@link #command}
-	 * @param isMonitoring of {@link #command}
+	 * @param snmpOid of {@link #snmpOid}
+	 * @param isMonitoring of {@link #isMonitoring}
+	 * @param isMetering of {@link #isMetering}
+	 * @param isPerOutlet of {@link #isPerOutlet}
 	 */
-	AtenPDUCommand(String name, String command, boolean isMonitoring) {
+	AtenPDUCommand(String name, String command, String snmpOid, boolean isMonitoring, boolean isMetering, boolean isPerOutlet) {
 		this.name = name;
 		this.command = command;
+		this.snmpOid = snmpOid;
 		this.isMonitoring = isMonitoring;
+		this.isMetering = isMetering;
+		this.isPerOutlet = isPerOutlet;
 	}
 
 	private String name;
 	private String command;
+	private String snmpOid;
 	private boolean isMonitoring;
+	private boolean isMetering;
+	private boolean isPerOutlet;
 
 	/**
 	 * Retrieves {@link #name}
@@ -53,6 +71,15 @@ public enum AtenPDUCommand {
 		return command;
 	}
 
+	/**
+	 * Retrieves {@link #snmpOid}
+	 *
+	 * @return value of {@link #snmpOid}, null if the command has no SNMP object
+	 */
+	public String getSnmpOid() {
+		return snmpOid;
+	}
+
 	/**
 	 * Retrieves {@link #isMonitoring}
 	 *
@@ -62,13 +89,51 @@ public enum AtenPDUCommand {
 		return isMonitoring;
 	}
 
+	/**
+	 * Retrieves {@link #isMetering}
+	 *
+	 * @return value of {@link #isMetering}
+	 */
+	public boolean isMetering() {
+		return isMetering;
+	}
+
+	/**
+	 * Retrieves {@link #isPerOutlet}
+	 *
+	 * @return value of {@link #isPerOutlet}
+	 */
+	public boolean isPerOutlet() {
+		return isPerOutlet;
+	}
+
+	/**
+	 * Obtain the property name of the command for an outlet
+	 *
+	 * @param outlet number of the outlet, ignored if the command isn't per outlet
+	 * @return the property name
+	 */
+	public String getName(int outlet) {
+		return isPerOutlet ? String.format(name, outlet) : name;
+	}
+
+	/**
+	 * Obtain the command for an outlet
+	 *
+	 * @param outlet number of the outlet, ignored if the command isn't per outlet
+	 * @return the command to send to the device
+	 */
+	public String getCommand(int outlet) {
+		return isPerOutlet ? String.format(command, outlet) : command;
+	}
+
 	/**
 	 * Obtain a command to control a specific outlet's status
 	 *
-	 * @param outlet of device [01 ~ 04]
+	 * @param outlet number of the outlet
 	 * @param status of outlet [on/off]
 	 */
-	public static String getSwitchControlCommand(String outlet, String status) {
-		return "sw o" + outlet + " imme " + status;
+	public static String getSwitchControlCommand(int outlet, String status) {
+		return String.format("sw o%02d imme %s", outlet, status);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+/**
+ * This enum represents the ways the adapter exchanges the monitoring and control requests with the device
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public enum AtenPDUConnectionModeEnum {
+	SSH("SSH"),
+	TELNET("Telnet"),
+	SNMP("SNMP");
+
+	private final String name;
+
+	/**
+	 * Create a new AtenPDUConnectionModeEnum with the specified name
+	 *
+	 * @param name of the connection mode
+	 */
+	AtenPDUConnectionModeEnum(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * This method is used to get the connection mode by name
+	 *
+	 * @param name of the connection mode
+	 * @return the connection mode, {@link #SSH} if the name is unknown
+	 */
+	public static AtenPDUConnectionModeEnum getByName(String name) {
+		for (AtenPDUConnectionModeEnum connectionMode : values()) {
+			if (connectionMode.name.equalsIgnoreCase(name)) {
+				return connectionMode;
+			}
+		}
+		return SSH;
+	}
+}
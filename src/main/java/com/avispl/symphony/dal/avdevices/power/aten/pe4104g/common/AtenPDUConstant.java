@@ -15,12 +15,68 @@ public class AtenPDUConstant {
 	public static final String  NONE = "None";
 	public static final String  EMPTY = "";
 	public static final String  SYSTEM_REBOOT = "Reboot";
-	public static final int NUMBER_OF_MONITORING_DATA = 4;
-	public static final String  OUTLET1 = "01";
-	public static final String  OUTLET2 = "02";
-	public static final String  OUTLET3 = "03";
-	public static final String  OUTLET4 = "04";
 	public static final String  TRUE = "true";
+	public static final String  FALSE = "false";
 	public static final String ON = "on";
 	public static final String OFF = "off";
+	public static final String PROMPT_LINE = "\n> ";
+	public static final String CARRIAGE_RETURN = "\r";
+	public static final String LINE_SEPARATOR = "\r\n";
+	public static final String NUMBER_ONE = "1";
+	public static final String NUMBER_ZERO = "0";
+	public static final String STATISTICS_AGE = "StatisticsAge(s)";
+	public static final long DEFAULT_BACKGROUND_REFRESH_INTERVAL = 30000;
+	public static final long MIN_BACKGROUND_REFRESH_INTERVAL = 1000;
+	public static final int MAX_STALE_INTERVALS = 3;
+	public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 3;
+	public static final long DEFAULT_CIRCUIT_BREAKER_BACKOFF = 30000;
+	public static final long MAX_CIRCUIT_BREAKER_BACKOFF = 600000;
+	public static final long DEFAULT_MONITORING_DEADLINE = 10000;
+	public static final String STALE_PROPERTIES = "StaleProperties";
+	public static final String ADAPTER_METRICS_GROUP = "AdapterMetrics#";
+	public static final String METRIC_COUNT = "Count";
+	public static final String METRIC_ERRORS = "Errors";
+	public static final String METRIC_P50 = "P50(ms)";
+	public static final String METRIC_P99 = "P99(ms)";
+	public static final int DEFAULT_POLLING_THREADS = 8;
+	public static final long DEFAULT_SESSION_IDLE_TIMEOUT = 300000;
+	public static final int DEFAULT_MAX_OPEN_SESSIONS = 0;
+	public static final int DEFAULT_SSH_PORT = 22;
+	public static final String HOST_SEPARATOR = ",";
+	public static final String PORT_SEPARATOR = ":";
+	public static final String IPV6_HOST_START = "[";
+	public static final String IPV6_HOST_END = "]";
+	public static final int MAX_PORT = 65535;
+	public static final String DEVICE_MAKE = "ATEN";
+	public static final String DEVICE_CATEGORY = "Power";
+	public static final String MONITORED_DEVICES_TOTAL = "MonitoredDevicesTotal";
+	public static final String ONLINE_DEVICES = "OnlineDevices";
+	public static final String LAST_POLL_DURATION = "LastPollDuration(ms)";
+	public static final int DEFAULT_TREND_BUFFER_SIZE = 360;
+	public static final String TREND_GROUP = "Trend";
+	public static final String TREND_FLAPS = "Flaps";
+	public static final String TREND_MIN = "Min";
+	public static final String TREND_MAX = "Max";
+	public static final String TREND_AVG = "Avg";
+	public static final String AUTO_MODEL = "Auto";
+	public static final String RESTORED_SNAPSHOT_AGE = "RestoredSnapshotAge(s)";
+	public static final String SNAPSHOT_FILE_PREFIX = "AtenPDU-";
+	public static final String SNAPSHOT_FILE_EXTENSION = ".properties";
+	public static final String CONTROL_JOURNAL_FILE_EXTENSION = ".journal";
+	public static final long CONTROL_JOURNAL_MAX_SIZE = 1048576;
+	public static final int DEFAULT_CONTROL_JOURNAL_BACKUPS = 1;
+	public static final String LAST_CHANGE_TIME = "LastChangeTime";
+	public static final String CHANGED_PROPERTIES = "ChangedProperties";
+	public static final String SNMP_VERSION_3 = "3";
+	public static final int SNMP_OUTLET_OFF = 1;
+	public static final int SNMP_OUTLET_ON = 2;
+	public static final int SNMP_MAX_VARIABLE_BINDINGS = 40;
+	public static final long DEFAULT_TRAP_RECONCILIATION_INTERVAL = 300000;
+	public static final int DEFAULT_TELNET_PORT = 23;
+	public static final String TELNET_LOGIN_PROMPT = "Login: ";
+	public static final String TELNET_PASSWORD_PROMPT = "Password: ";
+	public static final long DEFAULT_SESSION_KEEPALIVE_INTERVAL = 60000;
+	public static final long SESSION_KEEPALIVE_TIMEOUT = 2000;
+	public static final long DEFAULT_RECONNECT_BACKOFF = 1000;
+	public static final long MAX_RECONNECT_BACKOFF = 300000;
 }
\ No newline at end of file
@@ -0,0 +1,372 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * AtenPDUControlJournal class is an append-only binary journal of the controls sent to the device
+ *
+ * Every control is recorded when it's requested and again when it's completed. A record is framed by its length and
+ * a CRC32 checksum and written with a single write, so a record torn by a crash is detected and truncated when the journal
+ * is opened again. The requested records are forced to the storage before the control is sent, a completion record lost
+ * by a crash only makes the control be reconciled again. The controls requested but never completed are returned by
+ * {@link #open()} to be reconciled. Once the journal exceeds its maximum size it's rotated to numbered backup files,
+ * the most recent one ending with .1, and the pending controls are copied to the new journal.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUControlJournal implements Closeable {
+
+	/**
+	 * Status of a journal record
+	 */
+	public enum Status {
+		REQUESTED, SUCCEEDED, FAILED, RECONCILED, ABANDONED
+	}
+
+	/**
+	 * Journal record of a control
+	 */
+	public static final class Entry {
+		private final long id;
+		private final Status status;
+		private final long timestamp;
+		private final String property;
+		private final String value;
+		private final String message;
+
+		/**
+		 * Create a new Entry
+		 *
+		 * @param id id of the control, shared by all records of the control
+		 * @param status status of the control
+		 * @param timestamp time of the record in milliseconds
+		 * @param property name of the controlled property
+		 * @param value value of the control
+		 * @param message result of the control, empty if there is none
+		 */
+		Entry(long id, Status status, long timestamp, String property, String value, String message) {
+			this.id = id;
+			this.status = status;
+			this.timestamp = timestamp;
+			this.property = property;
+			this.value = value;
+			this.message = message;
+		}
+
+		/**
+		 * Retrieves {@link #id}
+		 *
+		 * @return value of {@link #id}
+		 */
+		public long getId() {
+			return id;
+		}
+
+		/**
+		 * Retrieves {@link #status}
+		 *
+		 * @return value of {@link #status}
+		 */
+		public Status getStatus() {
+			return status;
+		}
+
+		/**
+		 * Retrieves {@link #timestamp}
+		 *
+		 * @return value of {@link #timestamp}
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * Retrieves {@link #property}
+		 *
+		 * @return value of {@link #property}
+		 */
+		public String getProperty() {
+			return property;
+		}
+
+		/**
+		 * Retrieves {@link #value}
+		 *
+		 * @return value of {@link #value}
+		 */
+		public String getValue() {
+			return value;
+		}
+
+		/**
+		 * Retrieves {@link #message}
+		 *
+		 * @return value of {@link #message}
+		 */
+		public String getMessage() {
+			return message;
+		}
+	}
+
+	private static final int MAX_RECORD_SIZE = 16384;
+	private static final int MAX_TEXT_LENGTH = 1024;
+
+	private final Path path;
+	private final long maxSize;
+	private final int maxBackups;
+	private final Map<Long, Entry> pendingEntries = new LinkedHashMap<>();
+	private FileChannel channel;
+	private long nextId = 1;
+
+	/**
+	 * Create a new AtenPDUControlJournal
+	 *
+	 * @param path location of the journal
+	 * @param maxSize size in bytes from which the journal is rotated
+	 * @param maxBackups number of backup files kept by the rotation, the rotated journal is deleted if it's 0
+	 */
+	public AtenPDUControlJournal(Path path, long maxSize, int maxBackups) {
+		this.path = path;
+		this.maxSize = maxSize;
+		this.maxBackups = maxBackups;
+	}
+
+	/**
+	 * Retrieves {@link #path}
+	 *
+	 * @return value of {@link #path}
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Open the journal, the records torn by a crash are truncated
+	 *
+	 * @return the controls requested but not completed, in request order
+	 * @throws IOException if the journal can't be read or written
+	 */
+	public synchronized List<Entry> open() throws IOException {
+		pendingEntries.clear();
+		Files.createDirectories(path.toAbsolutePath().getParent());
+		long validSize = 0;
+		if (Files.exists(path)) {
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+			Entry entry;
+			while ((entry = readEntry(buffer)) != null) {
+				validSize = buffer.position();
+				nextId = Math.max(nextId, entry.getId() + 1);
+				if (entry.getStatus() == Status.REQUESTED) {
+					pendingEntries.put(entry.getId(), entry);
+				} else {
+					pendingEntries.remove(entry.getId());
+				}
+			}
+		}
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		channel.truncate(validSize);
+		channel.position(validSize);
+		return new ArrayList<>(pendingEntries.values());
+	}
+
+	/**
+	 * Record a requested control
+	 *
+	 * @param property name of the controlled property
+	 * @param value value of the control
+	 * @return id of the control
+	 * @throws IOException if the record can't be written
+	 */
+	public synchronized long request(String property, String value) throws IOException {
+		Entry entry = new Entry(nextId++, Status.REQUESTED, System.currentTimeMillis(), property, value, AtenPDUConstant.EMPTY);
+		append(entry);
+		pendingEntries.put(entry.getId(), entry);
+		return entry.getId();
+	}
+
+	/**
+	 * Record the completion of a control
+	 *
+	 * @param id id returned by {@link #request(String, String)}
+	 * @param status result of the control
+	 * @param message detail of the result, empty if there is none
+	 * @throws IOException if the record can't be written
+	 */
+	public synchronized void complete(long id, Status status, String message) throws IOException {
+		Entry requestedEntry = pendingEntries.remove(id);
+		if (requestedEntry == null) {
+			return;
+		}
+		append(new Entry(id, status, System.currentTimeMillis(), requestedEntry.getProperty(), requestedEntry.getValue(), message == null ? AtenPDUConstant.EMPTY : message));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	/**
+	 * Write a record, the journal is rotated first if it's full. A requested record is forced to the storage
+	 *
+	 * @param entry the record
+	 * @throws IOException if the record can't be written
+	 */
+	private void append(Entry entry) throws IOException {
+		if (channel == null) {
+			throw new IOException("The control journal is not open");
+		}
+		if (channel.position() >= maxSize) {
+			rotate();
+		}
+		ByteBuffer record = encode(entry);
+		while (record.hasRemaining()) {
+			channel.write(record);
+		}
+		if (entry.getStatus() == Status.REQUESTED) {
+			channel.force(false);
+		}
+	}
+
+	/**
+	 * Shift the backup files, move the journal to the first backup file and copy the pending controls to a new journal
+	 *
+	 * @throws IOException if the journal can't be rotated
+	 */
+	private void rotate() throws IOException {
+		channel.close();
+		for (int i = maxBackups - 1; i > 0; i--) {
+			Path backup = getBackupPath(i);
+			if (Files.exists(backup)) {
+				Files.move(backup, getBackupPath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		if (maxBackups > 0) {
+			Files.move(path, getBackupPath(1), StandardCopyOption.REPLACE_EXISTING);
+		} else {
+			Files.delete(path);
+		}
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		for (Entry pendingEntry : pendingEntries.values()) {
+			ByteBuffer record = encode(pendingEntry);
+			while (record.hasRemaining()) {
+				channel.write(record);
+			}
+		}
+		channel.force(false);
+	}
+
+	/**
+	 * Retrieves the location of a backup file
+	 *
+	 * @param generation number of the backup file, 1 for the most recent one
+	 * @return the location of the backup file
+	 */
+	private Path getBackupPath(int generation) {
+		return path.resolveSibling(path.getFileName() + "." + generation);
+	}
+
+	/**
+	 * Encode a record as its length, its content and the CRC32 of its content
+	 *
+	 * @param entry the record
+	 * @return the encoded record
+	 * @throws IOException if the record can't be encoded
+	 */
+	private static ByteBuffer encode(Entry entry) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream(64);
+		DataOutputStream output = new DataOutputStream(content);
+		output.writeByte(entry.getStatus().ordinal());
+		output.writeLong(entry.getId());
+		output.writeLong(entry.getTimestamp());
+		output.writeUTF(truncate(entry.getProperty()));
+		output.writeUTF(truncate(entry.getValue()));
+		output.writeUTF(truncate(entry.getMessage()));
+		byte[] bytes = content.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		ByteBuffer record = ByteBuffer.allocate(bytes.length + 8);
+		record.putInt(bytes.length).put(bytes).putInt((int) crc.getValue());
+		record.flip();
+		return record;
+	}
+
+	/**
+	 * Decode the record at the position of the buffer and move the position after it
+	 *
+	 * @param buffer content of the journal
+	 * @return the record, null if there is no complete and valid record at the position
+	 */
+	private static Entry readEntry(ByteBuffer buffer) {
+		if (buffer.remaining() < 4) {
+			return null;
+		}
+		int start = buffer.position();
+		int length = buffer.getInt();
+		if (length <= 0 || length > MAX_RECORD_SIZE || buffer.remaining() < length + 4) {
+			buffer.position(start);
+			return null;
+		}
+		int contentStart = buffer.arrayOffset() + buffer.position();
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), contentStart, length);
+		buffer.position(buffer.position() + length);
+		if ((int) crc.getValue() != buffer.getInt()) {
+			buffer.position(start);
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array(), contentStart, length))) {
+			int ordinal = input.readUnsignedByte();
+			if (ordinal >= Status.values().length) {
+				buffer.position(start);
+				return null;
+			}
+			long id = input.readLong();
+			long timestamp = input.readLong();
+			return new Entry(id, Status.values()[ordinal], timestamp, input.readUTF(), input.readUTF(), input.readUTF());
+		} catch (IOException e) {
+			buffer.position(start);
+			return null;
+		}
+	}
+
+	/**
+	 * Limit the length of a text stored in a record
+	 *
+	 * @param text the text
+	 * @return the text, truncated to {@link #MAX_TEXT_LENGTH} characters
+	 */
+	private static String truncate(String text) {
+		if (text == null) {
+			return AtenPDUConstant.EMPTY;
+		}
+		return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AtenPDULatencyHistogram class is a lock-free, fixed-bucket latency histogram with an error counter
+ *
+ * Recording a sample is a bucket search and an atomic increment, nothing is allocated. Percentiles are reported
+ * as the upper bound of the bucket containing them.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDULatencyHistogram {
+
+	/**
+	 * Upper bounds of the buckets in milliseconds, the last bucket holds every slower sample
+	 */
+	private static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 20000, 30000, Long.MAX_VALUE };
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS.length);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+
+	/**
+	 * Record a sample
+	 *
+	 * @param latencyNanos latency of the sample in nanoseconds
+	 * @param isError true if the measured operation failed
+	 */
+	public void record(long latencyNanos, boolean isError) {
+		long latencyMillis = latencyNanos / 1_000_000L;
+		int bucket = 0;
+		while (latencyMillis >= BUCKET_BOUNDS[bucket] && bucket < BUCKET_BOUNDS.length - 1) {
+			bucket++;
+		}
+		buckets.incrementAndGet(bucket);
+		count.increment();
+		if (isError) {
+			errors.increment();
+		}
+	}
+
+	/**
+	 * Retrieve a percentile of the recorded latencies
+	 *
+	 * @param percentile the percentile between 0 and 1
+	 * @return upper bound in milliseconds of the bucket containing the percentile, 0 if nothing is recorded,
+	 * the last finite bound if the percentile is in the overflow bucket
+	 */
+	public long getPercentile(double percentile) {
+		long total = count.sum();
+		if (total == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(percentile * total);
+		long cumulative = 0;
+		for (int i = 0; i < BUCKET_BOUNDS.length - 1; i++) {
+			cumulative += buckets.get(i);
+			if (cumulative >= rank) {
+				return BUCKET_BOUNDS[i];
+			}
+		}
+		return BUCKET_BOUNDS[BUCKET_BOUNDS.length - 2];
+	}
+
+	/**
+	 * Retrieves the number of recorded samples
+	 *
+	 * @return number of samples
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Retrieves the number of recorded errors
+	 *
+	 * @return number of errors
+	 */
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	/**
+	 * Move the samples recorded so far to a new histogram and clear this one, so every reporting period
+	 * summarizes the samples recorded since the previous one. A sample recorded concurrently is kept
+	 * for the next period
+	 *
+	 * @return histogram of the samples recorded since the previous call
+	 */
+	public AtenPDULatencyHistogram drain() {
+		AtenPDULatencyHistogram interval = new AtenPDULatencyHistogram();
+		for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+			long bucketCount = buckets.getAndSet(i, 0);
+			interval.buckets.set(i, bucketCount);
+			// the count follows the drained buckets so the percentiles stay consistent with it
+			interval.count.add(bucketCount);
+			count.add(-bucketCount);
+		}
+		interval.errors.add(errors.sumThenReset());
+		return interval;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+/**
+ * This enum represents the operations of the adapter whose latency and errors are measured
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public enum AtenPDUMetricEnum {
+	MONITORING_COMMAND("MonitoringCommand"),
+	CONTROL_COMMAND("ControlCommand"),
+	PING("Ping"),
+	LOCK_WAIT("LockWait"),
+	LOCK_HOLD("LockHold");
+
+	private final String name;
+
+	/**
+	 * Create a new AtenPDUMetricEnum with the specified name
+	 *
+	 * @param name of the metric
+	 */
+	AtenPDUMetricEnum(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AtenPDUModel class describes the outlets of a PDU model
+ *
+ * The monitoring commands, outlet property names and switch commands are built once when the model is created
+ * and looked up by index, so the polling and control paths don't format any command.
+ * The excluded outlets are neither monitored nor controlled.
+ * The instances are immutable and can be shared between threads.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public final class AtenPDUModel {
+	private final AtenPDUModelEnum model;
+	private final List<AtenPDUMonitoringCommand> monitoringCommands;
+	private final String[] outletNames;
+	private final String[] switchOnCommands;
+	private final String[] switchOffCommands;
+	private final Map<String, Integer> outletsByName;
+
+	/**
+	 * Create a new AtenPDUModel
+	 *
+	 * @param model the PDU model
+	 * @param isPowerMetering true to include the power metering commands in the monitoring commands
+	 */
+	public AtenPDUModel(AtenPDUModelEnum model, boolean isPowerMetering) {
+		this(model, isPowerMetering, Collections.emptySet());
+	}
+
+	/**
+	 * Create a new AtenPDUModel
+	 *
+	 * @param model the PDU model
+	 * @param isPowerMetering true to include the power metering commands in the monitoring commands
+	 * @param excludedOutlets numbers of the outlets neither monitored nor controlled
+	 */
+	public AtenPDUModel(AtenPDUModelEnum model, boolean isPowerMetering, Set<Integer> excludedOutlets) {
+		this.model = model;
+		int outletCount = model.getOutletCount();
+		outletNames = new String[outletCount + 1];
+		switchOnCommands = new String[outletCount + 1];
+		switchOffCommands = new String[outletCount + 1];
+		outletsByName = new HashMap<>();
+		for (int outlet = 1; outlet <= outletCount; outlet++) {
+			if (excludedOutlets.contains(outlet)) {
+				continue;
+			}
+			outletNames[outlet] = AtenPDUCommand.OUTLET_STATUS.getName(outlet);
+			switchOnCommands[outlet] = AtenPDUCommand.getSwitchControlCommand(outlet, OutletStatusEnum.ON.getValue());
+			switchOffCommands[outlet] = AtenPDUCommand.getSwitchControlCommand(outlet, OutletStatusEnum.OFF.getValue());
+			outletsByName.put(outletNames[outlet], outlet);
+		}
+
+		// outlet statuses first, then the device meters, then the meters of every outlet
+		List<AtenPDUMonitoringCommand> commands = new ArrayList<>();
+		for (int outlet = 1; outlet <= outletCount; outlet++) {
+			if (!isMonitored(outlet)) {
+				continue;
+			}
+			commands.add(new AtenPDUMonitoringCommand(commands.size(), AtenPDUCommand.OUTLET_STATUS, outlet));
+		}
+		if (isPowerMetering) {
+			for (AtenPDUCommand command : AtenPDUCommand.values()) {
+				if (command.isMetering() && !command.isPerOutlet()) {
+					commands.add(new AtenPDUMonitoringCommand(commands.size(), command, 0));
+				}
+			}
+			for (int outlet = 1; outlet <= outletCount; outlet++) {
+				if (!isMonitored(outlet)) {
+					continue;
+				}
+				for (AtenPDUCommand command : AtenPDUCommand.values()) {
+					if (command.isMetering() && command.isPerOutlet()) {
+						commands.add(new AtenPDUMonitoringCommand(commands.size(), command, outlet));
+					}
+				}
+			}
+		}
+		monitoringCommands = Collections.unmodifiableList(commands);
+	}
+
+	/**
+	 * Retrieves {@link #model}
+	 *
+	 * @return value of {@link #model}
+	 */
+	public AtenPDUModelEnum getModel() {
+		return model;
+	}
+
+	/**
+	 * Retrieves the number of outlets of the model
+	 *
+	 * @return number of outlets
+	 */
+	public int getOutletCount() {
+		return model.getOutletCount();
+	}
+
+	/**
+	 * Retrieves all commands used to monitor the device, outlet statuses first then power metering
+	 *
+	 * @return unmodifiable list of monitoring commands, the position of every command is its index
+	 */
+	public List<AtenPDUMonitoringCommand> getMonitoringCommands() {
+		return monitoringCommands;
+	}
+
+	/**
+	 * Check if an outlet is monitored and controlled
+	 *
+	 * @param outlet number of the outlet [1 ~ outlet count]
+	 * @return false if the outlet is excluded
+	 */
+	public boolean isMonitored(int outlet) {
+		return outletNames[outlet] != null;
+	}
+
+	/**
+	 * Retrieves the property name of an outlet
+	 *
+	 * @param outlet number of the outlet [1 ~ outlet count]
+	 * @return the property name, null if the outlet is excluded
+	 */
+	public String getOutletName(int outlet) {
+		return outletNames[outlet];
+	}
+
+	/**
+	 * Retrieves the outlet of a property
+	 *
+	 * @param name the property name
+	 * @return number of the outlet, 0 if the property isn't an outlet of the model
+	 */
+	public int getOutletNumber(String name) {
+		Integer outlet = outletsByName.get(name);
+		return outlet == null ? 0 : outlet;
+	}
+
+	/**
+	 * Retrieves the command switching an outlet
+	 *
+	 * @param outlet number of the outlet [1 ~ outlet count]
+	 * @param isOn true to switch the outlet on
+	 * @return the switch command
+	 */
+	public String getSwitchCommand(int outlet, boolean isOn) {
+		return isOn ? switchOnCommands[outlet] : switchOffCommands[outlet];
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+/**
+ * This enum represents the supported ATEN PDU models, ordered by number of outlets
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public enum AtenPDUModelEnum {
+	PE4104G("PE4104G", 4),
+	PE8108G("PE8108G", 8),
+	PE8216G("PE8216G", 16),
+	PE8324G("PE8324G", 24);
+
+	private final String name;
+	private final int outletCount;
+
+	/**
+	 * Create a new AtenPDUModelEnum with the specified name and number of outlets
+	 *
+	 * @param name of the model
+	 * @param outletCount number of outlets of the model
+	 */
+	AtenPDUModelEnum(String name, int outletCount) {
+		this.name = name;
+		this.outletCount = outletCount;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #outletCount}
+	 *
+	 * @return value of {@link #outletCount}
+	 */
+	public int getOutletCount() {
+		return outletCount;
+	}
+
+	/**
+	 * This method is used to get the model by name
+	 *
+	 * @param name of the model
+	 * @return the model, null if the name is unknown
+	 */
+	public static AtenPDUModelEnum getByName(String name) {
+		for (AtenPDUModelEnum model : values()) {
+			if (model.name.equalsIgnoreCase(name)) {
+				return model;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+/**
+ * AtenPDUMonitoringCommand class is a monitoring command of a model with its property name and command already built
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public final class AtenPDUMonitoringCommand {
+	private final int index;
+	private final AtenPDUCommand type;
+	private final int outlet;
+	private final String name;
+	private final String command;
+
+	/**
+	 * Create a new AtenPDUMonitoringCommand
+	 *
+	 * @param index position of the command in {@link AtenPDUModel#getMonitoringCommands()}
+	 * @param type the command template
+	 * @param outlet number of the outlet, 0 for a device command
+	 */
+	AtenPDUMonitoringCommand(int index, AtenPDUCommand type, int outlet) {
+		this.index = index;
+		this.type = type;
+		this.outlet = outlet;
+		this.name = type.getName(outlet);
+		this.command = type.getCommand(outlet);
+	}
+
+	/**
+	 * Retrieves {@link #index}
+	 *
+	 * @return value of {@link #index}
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Retrieves {@link #type}
+	 *
+	 * @return value of {@link #type}
+	 */
+	public AtenPDUCommand getType() {
+		return type;
+	}
+
+	/**
+	 * Retrieves {@link #outlet}
+	 *
+	 * @return value of {@link #outlet}
+	 */
+	public int getOutlet() {
+		return outlet;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Check if the command reads a power meter
+	 *
+	 * @return true if the command is a metering command
+	 */
+	public boolean isMetering() {
+		return type.isMetering();
+	}
+}
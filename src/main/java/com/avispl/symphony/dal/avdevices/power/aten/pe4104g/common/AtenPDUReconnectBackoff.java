@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AtenPDUReconnectBackoff class spaces the attempts to open the session of a device which keeps failing
+ *
+ * The backoff starts at the initial value and is doubled after every consecutive failure up to the maximum value,
+ * the actual delay is picked randomly between half and the whole backoff so the adapters of a fleet don't retry
+ * in lockstep. The backoff is thread safe, it's shared by the polls, the controls and the session thread.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUReconnectBackoff {
+	private final long initialBackoff;
+	private final long maxBackoff;
+	private int consecutiveFailures;
+	private long retryTime;
+
+	/**
+	 * Create a new AtenPDUReconnectBackoff allowing the first attempt immediately
+	 *
+	 * @param initialBackoff backoff in milliseconds after the first failure
+	 * @param maxBackoff maximum backoff in milliseconds
+	 */
+	public AtenPDUReconnectBackoff(long initialBackoff, long maxBackoff) {
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = Math.max(initialBackoff, maxBackoff);
+	}
+
+	/**
+	 * Check if the session can be opened
+	 *
+	 * @param now current time in milliseconds
+	 * @return true if the backoff elapsed
+	 */
+	public synchronized boolean allowAttempt(long now) {
+		return now >= retryTime;
+	}
+
+	/**
+	 * Record an opened session, the next failure starts again from the initial backoff
+	 */
+	public synchronized void recordSuccess() {
+		consecutiveFailures = 0;
+		retryTime = 0;
+	}
+
+	/**
+	 * Record a failure to open the session and compute the time of the next attempt
+	 *
+	 * @param now current time in milliseconds
+	 */
+	public synchronized void recordFailure(long now) {
+		consecutiveFailures++;
+		long backoff = maxBackoff;
+		if (consecutiveFailures < Long.numberOfLeadingZeros(Math.max(1, initialBackoff))) {
+			backoff = Math.min(maxBackoff, initialBackoff << (consecutiveFailures - 1));
+		}
+		long minBackoff = backoff / 2;
+		retryTime = now + minBackoff + ThreadLocalRandom.current().nextLong(backoff - minBackoff + 1);
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public synchronized int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Retrieves {@link #retryTime}
+	 *
+	 * @return value of {@link #retryTime}
+	 */
+	public synchronized long getRetryTime() {
+		return retryTime;
+	}
+}
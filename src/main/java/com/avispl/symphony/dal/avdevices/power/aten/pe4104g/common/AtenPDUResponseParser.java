@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.util.List;
+
+/**
+ * AtenPDUResponseParser class provides single-pass, index-based parsing of the raw device responses
+ * so the polling path doesn't need to split, trim or copy the response text
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public final class AtenPDUResponseParser {
+
+	/**
+	 * AtenPDUResponseParser only provides static methods
+	 */
+	private AtenPDUResponseParser() {
+	}
+
+	/**
+	 * Parse the outlet status of a reply, the status is the line following the echo of the command
+	 *
+	 * @param response the raw response
+	 * @param start index of the first character of the reply
+	 * @param end index after the last character of the reply
+	 * @return the outlet status or null if the reply doesn't contain a valid status
+	 */
+	public static OutletStatusEnum parseOutletStatus(String response, int start, int end) {
+		long value = locateValue(response, start, end);
+		if (value < 0) {
+			return null;
+		}
+		return OutletStatusEnum.getByValue(response, (int) (value >>> 32), (int) value);
+	}
+
+	/**
+	 * Parse the numeric reading of a meter reply, the reading is the line following the echo of the command
+	 *
+	 * @param response the raw response
+	 * @param start index of the first character of the reply
+	 * @param end index after the last character of the reply
+	 * @return the reading or null if the reply doesn't contain a number
+	 */
+	public static String parseMeterValue(String response, int start, int end) {
+		long value = locateValue(response, start, end);
+		if (value < 0) {
+			return null;
+		}
+		int valueStart = (int) (value >>> 32);
+		int valueEnd = (int) value;
+		return isMeterValue(response, valueStart, valueEnd) ? response.substring(valueStart, valueEnd) : null;
+	}
+
+	/**
+	 * Validate a meter reading received without the shell framing, e.g. the value of an SNMP object
+	 *
+	 * @param value the reading
+	 * @return the trimmed reading, null if it isn't a decimal number
+	 */
+	public static String parseMeterValue(String value) {
+		if (value == null) {
+			return null;
+		}
+		String trimmedValue = value.trim();
+		return isMeterValue(trimmedValue, 0, trimmedValue.length()) ? trimmedValue : null;
+	}
+
+	/**
+	 * Check if a region of a text is a decimal number
+	 *
+	 * @param text the text containing the reading
+	 * @param start index of the first character of the reading
+	 * @param end index after the last character of the reading
+	 * @return true if the region only contains digits, a decimal point and a leading minus sign
+	 */
+	private static boolean isMeterValue(String text, int start, int end) {
+		boolean hasDigit = false;
+		for (int i = start; i < end; i++) {
+			char character = text.charAt(i);
+			if (character >= '0' && character <= '9') {
+				hasDigit = true;
+			} else if (character != '.' && !(character == '-' && i == start)) {
+				return false;
+			}
+		}
+		return hasDigit;
+	}
+
+	/**
+	 * Locate the value of a reply, the value is the line following the echo of the command without the surrounding blanks
+	 *
+	 * @param response the raw response
+	 * @param start index of the first character of the reply
+	 * @param end index after the last character of the reply
+	 * @return the value start index in the high 32 bits and the value end index in the low 32 bits, -1 if the reply has no value line
+	 */
+	private static long locateValue(String response, int start, int end) {
+		int valueStart = response.indexOf(AtenPDUConstant.LINE_SEPARATOR, start);
+		if (valueStart < 0 || valueStart >= end) {
+			return -1;
+		}
+		valueStart += AtenPDUConstant.LINE_SEPARATOR.length();
+		int valueEnd = response.indexOf(AtenPDUConstant.LINE_SEPARATOR, valueStart);
+		if (valueEnd < 0 || valueEnd > end) {
+			valueEnd = end;
+		}
+		while (valueStart < valueEnd && isBlank(response.charAt(valueStart))) {
+			valueStart++;
+		}
+		while (valueEnd > valueStart && isBlank(response.charAt(valueEnd - 1))) {
+			valueEnd--;
+		}
+		return ((long) valueStart << 32) | valueEnd;
+	}
+
+	/**
+	 * Check if the reply contains the echo of its command
+	 *
+	 * @param response the raw response
+	 * @param start index of the first character of the reply
+	 * @param end index after the last character of the reply
+	 * @param command the command of the reply
+	 * @return true if the command is echoed in the reply
+	 */
+	public static boolean containsEcho(String response, int start, int end, String command) {
+		int echoIndex = response.indexOf(command, start);
+		return echoIndex >= 0 && echoIndex + command.length() <= end;
+	}
+
+	/**
+	 * Locate the reply of every command of a pipelined response, replies are delimited by the prompt
+	 *
+	 * @param response the raw pipelined response
+	 * @param commands the commands in the order they were sent
+	 * @return array of [start, end) index pairs by command, both -1 if the reply of a command can't be identified
+	 */
+	public static int[] locateReplies(String response, List<AtenPDUMonitoringCommand> commands) {
+		int[] replies = new int[commands.size() * 2];
+		int replyStart = 0;
+		for (int i = 0; i < commands.size(); i++) {
+			replyStart = locateReply(response, replyStart, commands.get(i).getCommand(), replies, i);
+		}
+		return replies;
+	}
+
+	/**
+	 * Locate the reply of every raw command of a pipelined response, replies are delimited by the prompt
+	 *
+	 * @param response the raw pipelined response
+	 * @param commands the raw commands in the order they were sent
+	 * @return array of [start, end) index pairs by command, both -1 if the reply of a command can't be identified
+	 */
+	public static int[] locateCommandReplies(String response, List<String> commands) {
+		int[] replies = new int[commands.size() * 2];
+		int replyStart = 0;
+		for (int i = 0; i < commands.size(); i++) {
+			replyStart = locateReply(response, replyStart, commands.get(i), replies, i);
+		}
+		return replies;
+	}
+
+	/**
+	 * Locate the reply of a command starting at the given index and store its [start, end) pair
+	 *
+	 * @param response the raw pipelined response
+	 * @param replyStart index where the reply starts, -1 if the previous reply wasn't terminated
+	 * @param command the command of the reply
+	 * @param replies array of [start, end) index pairs by command
+	 * @param index index of the command
+	 * @return index where the next reply starts, -1 if this reply isn't terminated
+	 */
+	private static int locateReply(String response, int replyStart, String command, int[] replies, int index) {
+		int replyEnd = replyStart < 0 ? -1 : response.indexOf(AtenPDUConstant.PROMPT_LINE, replyStart);
+		if (replyEnd >= 0 && containsEcho(response, replyStart, replyEnd, command)) {
+			replies[2 * index] = replyStart;
+			replies[2 * index + 1] = replyEnd;
+		} else {
+			replies[2 * index] = -1;
+			replies[2 * index + 1] = -1;
+		}
+		return replyEnd < 0 ? -1 : replyEnd + AtenPDUConstant.PROMPT_LINE.length();
+	}
+
+	/**
+	 * Check if a character is a whitespace of the device output
+	 *
+	 * @param character the character to check
+	 * @return true if the character is blank
+	 */
+	private static boolean isBlank(char character) {
+		return character == ' ' || character == '\t' || character == '\r' || character == '\n' || character == '>';
+	}
+}
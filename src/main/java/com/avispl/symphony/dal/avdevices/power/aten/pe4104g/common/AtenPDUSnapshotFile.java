@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * AtenPDUSnapshotFile class persists the last known values of a device in a small properties file,
+ * so a restarted adapter can publish them before its first poll completes
+ *
+ * The file is replaced atomically when the platform supports it, a reader never sees a partially written file.
+ * The time of the snapshot is the last modification time of the file.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUSnapshotFile {
+	private final Path path;
+
+	/**
+	 * Create a new AtenPDUSnapshotFile
+	 *
+	 * @param path location of the file
+	 */
+	public AtenPDUSnapshotFile(Path path) {
+		this.path = path;
+	}
+
+	/**
+	 * Retrieves {@link #path}
+	 *
+	 * @return value of {@link #path}
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Load the persisted values
+	 *
+	 * @return the values by property name, empty if the file doesn't exist
+	 * @throws IOException if the file can't be read
+	 */
+	public Map<String, String> load() throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		} catch (NoSuchFileException e) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> values = new HashMap<>();
+		for (String name : properties.stringPropertyNames()) {
+			values.put(name, properties.getProperty(name));
+		}
+		return values;
+	}
+
+	/**
+	 * Retrieve the time the values were persisted
+	 *
+	 * @return the last modification time in milliseconds
+	 * @throws IOException if the file can't be read
+	 */
+	public long getTimestamp() throws IOException {
+		return Files.getLastModifiedTime(path).toMillis();
+	}
+
+	/**
+	 * Persist the values, replacing the previous ones
+	 *
+	 * @param values the values by property name
+	 * @throws IOException if the file can't be written
+	 */
+	public void save(Map<String, String> values) throws IOException {
+		Properties properties = new Properties();
+		properties.putAll(values);
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temporaryPath = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+		try {
+			try (Writer writer = Files.newBufferedWriter(temporaryPath, StandardCharsets.UTF_8)) {
+				properties.store(writer, null);
+			}
+			try {
+				Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporaryPath);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.Variable;
+
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * AtenPDUSnmpObjects class maps the monitoring commands to their SNMP objects and decodes the values of the objects,
+ * it's shared by the SNMP transport and the notification listener
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUSnmpObjects {
+	private final Map<AtenPDUCommand, OID> oids = new EnumMap<>(AtenPDUCommand.class);
+
+	/**
+	 * Create a new AtenPDUSnmpObjects
+	 *
+	 * @param oidOverrides objects replacing the default object of a command, an empty object removes the object of the command
+	 */
+	public AtenPDUSnmpObjects(Map<AtenPDUCommand, String> oidOverrides) {
+		for (AtenPDUCommand command : AtenPDUCommand.values()) {
+			String oid = oidOverrides.containsKey(command) ? oidOverrides.get(command) : command.getSnmpOid();
+			if (!StringUtils.isNullOrEmpty(oid)) {
+				oids.put(command, new OID(oid.trim()));
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the object of a command
+	 *
+	 * @param command the command
+	 * @param outlet the outlet number, ignored if the command isn't per outlet
+	 * @return the object, null if the command has no SNMP object
+	 */
+	public OID getOid(AtenPDUCommand command, int outlet) {
+		OID oid = oids.get(command);
+		if (oid == null) {
+			return null;
+		}
+		return command.isPerOutlet() ? new OID(oid).append(outlet) : oid;
+	}
+
+	/**
+	 * Find the monitoring command of an object
+	 *
+	 * @param oid the object
+	 * @param commands the monitoring commands of the model
+	 * @return the command, null if the object isn't the one of a command
+	 */
+	public AtenPDUMonitoringCommand findCommand(OID oid, List<AtenPDUMonitoringCommand> commands) {
+		for (AtenPDUMonitoringCommand command : commands) {
+			OID commandOid = oids.get(command.getType());
+			if (commandOid == null) {
+				continue;
+			}
+			if (command.getType().isPerOutlet() ? oid.size() == commandOid.size() + 1 && oid.startsWith(commandOid) && oid.last() == command.getOutlet()
+					: oid.equals(commandOid)) {
+				return command;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Decode the value of an object
+	 *
+	 * @param command the command of the object
+	 * @param variable the value of the object
+	 * @return {@link OutletStatusEnum#getValue()} for an outlet status and the decimal reading for a meter,
+	 * null if the value isn't valid
+	 */
+	public static String decodeValue(AtenPDUCommand command, Variable variable) {
+		if (variable == null || variable.isException()) {
+			return null;
+		}
+		if (command == AtenPDUCommand.OUTLET_STATUS) {
+			if (!(variable instanceof Integer32)) {
+				return null;
+			}
+			int status = variable.toInt();
+			if (status == AtenPDUConstant.SNMP_OUTLET_ON) {
+				return OutletStatusEnum.ON.getValue();
+			}
+			return status == AtenPDUConstant.SNMP_OUTLET_OFF ? OutletStatusEnum.OFF.getValue() : null;
+		}
+		return AtenPDUResponseParser.parseMeterValue(variable.toString());
+	}
+}
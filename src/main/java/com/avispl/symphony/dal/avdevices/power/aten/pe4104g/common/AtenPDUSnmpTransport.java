@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.PDU;
+import org.snmp4j.ScopedPDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.Target;
+import org.snmp4j.UserTarget;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.mp.MPv3;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.security.AuthSHA;
+import org.snmp4j.security.PrivAES128;
+import org.snmp4j.security.SecurityLevel;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.security.USM;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.GenericAddress;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * AtenPDUSnmpTransport class reads and switches the outlets with SNMP v2c or v3
+ *
+ * All the values of a poll are read with a single GET request, split only when the request would exceed
+ * {@link AtenPDUConstant#SNMP_MAX_VARIABLE_BINDINGS} objects. The outlets are switched by a single SET request.
+ * SNMP v3 uses SHA authentication and AES-128 privacy, the security level follows the configured passphrases.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUSnmpTransport implements AtenPDUTransport {
+	private final String host;
+	private final int port;
+	private final AtenPDUSnmpObjects objects;
+	private Snmp snmp;
+	private Target<UdpAddress> target;
+
+	/**
+	 * Create a new AtenPDUSnmpTransport
+	 *
+	 * @param host host of the device
+	 * @param port SNMP port of the device
+	 * @param objects the objects of the commands, a command without object is left to the shell
+	 */
+	public AtenPDUSnmpTransport(String host, int port, AtenPDUSnmpObjects objects) {
+		this.host = host;
+		this.port = port;
+		this.objects = objects;
+	}
+
+	/**
+	 * Open the transport with SNMP v2c
+	 *
+	 * @param community the community of the device
+	 * @throws IOException if the local socket can't be opened
+	 */
+	public synchronized void openV2c(String community) throws IOException {
+		MessageDispatcherImpl dispatcher = new MessageDispatcherImpl();
+		dispatcher.addMessageProcessingModel(new MPv2c());
+		CommunityTarget<UdpAddress> communityTarget = new CommunityTarget<>(getAddress(), new OctetString(community));
+		communityTarget.setVersion(SnmpConstants.version2c);
+		open(dispatcher, communityTarget);
+	}
+
+	/**
+	 * Open the transport with SNMP v3
+	 *
+	 * @param securityName the user of the device
+	 * @param authPassphrase the SHA authentication passphrase, empty for no authentication
+	 * @param privPassphrase the AES-128 privacy passphrase, empty for no privacy
+	 * @throws IOException if the local socket can't be opened
+	 */
+	public synchronized void openV3(String securityName, String authPassphrase, String privPassphrase) throws IOException {
+		boolean isAuth = !StringUtils.isNullOrEmpty(authPassphrase);
+		boolean isPriv = isAuth && !StringUtils.isNullOrEmpty(privPassphrase);
+		USM usm = new USM(SecurityProtocols.getInstance().addDefaultProtocols(), new OctetString(MPv3.createLocalEngineID()), 0);
+		OctetString user = new OctetString(securityName);
+		usm.addUser(user, new UsmUser(user, isAuth ? AuthSHA.ID : null, isAuth ? new OctetString(authPassphrase) : null,
+				isPriv ? PrivAES128.ID : null, isPriv ? new OctetString(privPassphrase) : null));
+		MessageDispatcherImpl dispatcher = new MessageDispatcherImpl();
+		dispatcher.addMessageProcessingModel(new MPv3(usm));
+		UserTarget<UdpAddress> userTarget = new UserTarget<>();
+		userTarget.setAddress(getAddress());
+		userTarget.setSecurityName(user);
+		userTarget.setSecurityLevel(isPriv ? SecurityLevel.AUTH_PRIV : isAuth ? SecurityLevel.AUTH_NOPRIV : SecurityLevel.NOAUTH_NOPRIV);
+		userTarget.setVersion(SnmpConstants.version3);
+		open(dispatcher, userTarget);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String[] read(List<AtenPDUMonitoringCommand> commands, long timeout) throws IOException {
+		String[] values = new String[commands.size()];
+		long deadline = System.currentTimeMillis() + timeout;
+		List<Integer> positions = new ArrayList<>(AtenPDUConstant.SNMP_MAX_VARIABLE_BINDINGS);
+		PDU request = createPdu(PDU.GET);
+		for (int i = 0; i < commands.size(); i++) {
+			AtenPDUMonitoringCommand command = commands.get(i);
+			OID oid = objects.getOid(command.getType(), command.getOutlet());
+			if (oid == null) {
+				continue;
+			}
+			request.add(new VariableBinding(oid));
+			positions.add(i);
+			if (positions.size() == AtenPDUConstant.SNMP_MAX_VARIABLE_BINDINGS) {
+				decodeResponse(sendRequest(request, deadline), commands, positions, values);
+				positions.clear();
+				request = createPdu(PDU.GET);
+			}
+		}
+		if (!positions.isEmpty()) {
+			decodeResponse(sendRequest(request, deadline), commands, positions, values);
+		}
+		return values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void switchOutlets(int[] outlets, boolean[] states, long timeout) throws IOException {
+		PDU request = createPdu(PDU.SET);
+		for (int i = 0; i < outlets.length; i++) {
+			OID oid = objects.getOid(AtenPDUCommand.OUTLET_STATUS, outlets[i]);
+			if (oid == null) {
+				throw new IOException("The outlet status has no SNMP object");
+			}
+			request.add(new VariableBinding(oid, new Integer32(states[i] ? AtenPDUConstant.SNMP_OUTLET_ON : AtenPDUConstant.SNMP_OUTLET_OFF)));
+		}
+		sendRequest(request, System.currentTimeMillis() + timeout);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (snmp != null) {
+			snmp.close();
+			snmp = null;
+		}
+	}
+
+	/**
+	 * Start listening for the responses of the device
+	 *
+	 * @param dispatcher the message dispatcher of the SNMP version
+	 * @param newTarget the device
+	 * @throws IOException if the local socket can't be opened
+	 */
+	private void open(MessageDispatcherImpl dispatcher, Target<UdpAddress> newTarget) throws IOException {
+		close();
+		newTarget.setRetries(0);
+		Snmp newSnmp = new Snmp(dispatcher, new DefaultUdpTransportMapping());
+		newSnmp.listen();
+		snmp = newSnmp;
+		target = newTarget;
+	}
+
+	/**
+	 * Retrieve the address of the device
+	 *
+	 * @return the UDP address
+	 * @throws IOException if the host can't be resolved
+	 */
+	private UdpAddress getAddress() throws IOException {
+		UdpAddress address = (UdpAddress) GenericAddress.parse(String.format("udp:%s/%d", host, port));
+		if (address == null) {
+			throw new IOException(String.format("The SNMP address %s/%d is invalid", host, port));
+		}
+		return address;
+	}
+
+	/**
+	 * Create a request of the SNMP version of the device
+	 *
+	 * @param type the type of the request
+	 * @return the empty request
+	 */
+	private PDU createPdu(int type) {
+		PDU pdu = target != null && target.getVersion() == SnmpConstants.version3 ? new ScopedPDU() : new PDU();
+		pdu.setType(type);
+		return pdu;
+	}
+
+	/**
+	 * Send a request and wait for its response
+	 *
+	 * @param request the request
+	 * @param deadline time in milliseconds the response must be received by
+	 * @return the response
+	 * @throws IOException if the request times out or is rejected by the device
+	 */
+	private PDU sendRequest(PDU request, long deadline) throws IOException {
+		if (snmp == null) {
+			throw new IOException("The SNMP transport is not open");
+		}
+		long timeout = deadline - System.currentTimeMillis();
+		if (timeout <= 0) {
+			throw new SocketTimeoutException("The operation deadline is exceeded before sending the SNMP request");
+		}
+		target.setTimeout(timeout);
+		ResponseEvent<UdpAddress> event = snmp.send(request, target);
+		PDU response = event == null ? null : event.getResponse();
+		if (response == null) {
+			if (event != null && event.getError() != null) {
+				throw new IOException("The SNMP request failed " + event.getError().getMessage(), event.getError());
+			}
+			throw new SocketTimeoutException("The SNMP request timed out");
+		}
+		if (response.getErrorStatus() != PDU.noError) {
+			throw new IOException(String.format("The SNMP request failed with %s at object %s", response.getErrorStatusText(), response.getErrorIndex()));
+		}
+		if (response.size() != request.size()) {
+			throw new IOException(String.format("The SNMP response contains %s objects instead of %s", response.size(), request.size()));
+		}
+		return response;
+	}
+
+	/**
+	 * Decode the values of a response
+	 *
+	 * @param response the response
+	 * @param commands the monitoring commands
+	 * @param positions the positions of the commands of the request
+	 * @param values the values by command position
+	 */
+	private static void decodeResponse(PDU response, List<AtenPDUMonitoringCommand> commands, List<Integer> positions, String[] values) {
+		for (int i = 0; i < positions.size(); i++) {
+			int position = positions.get(i);
+			values[position] = AtenPDUSnmpObjects.decodeValue(commands.get(position).getType(), response.get(i).getVariable());
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * AtenPDUStatisticsSnapshot class is an immutable view of the statistics and controllable properties published by the adapter,
+ * a new snapshot is created on every change so readers never see a partially updated state
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public final class AtenPDUStatisticsSnapshot {
+	private final Map<String, String> statistics;
+	private final List<AdvancedControllableProperty> controllableProperties;
+	private final long timestamp;
+	private final ExtendedStatistics extendedStatistics;
+
+	/**
+	 * Create a new AtenPDUStatisticsSnapshot, the given collections are copied
+	 *
+	 * @param statistics map of statistics
+	 * @param controllableProperties list of controllable properties, must not be modified once published
+	 * @param timestamp time the statistics were retrieved from the device
+	 */
+	public AtenPDUStatisticsSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controllableProperties, long timestamp) {
+		this.statistics = Collections.unmodifiableMap(new HashMap<>(statistics));
+		this.controllableProperties = Collections.unmodifiableList(new ArrayList<>(controllableProperties));
+		this.timestamp = timestamp;
+		this.extendedStatistics = new ExtendedStatistics();
+		this.extendedStatistics.setStatistics(this.statistics);
+		this.extendedStatistics.setControllableProperties(this.controllableProperties);
+	}
+
+	/**
+	 * Create a copy of a snapshot sharing its collections and {@link ExtendedStatistics}
+	 *
+	 * @param snapshot the snapshot to copy
+	 * @param timestamp time the statistics were retrieved from the device
+	 */
+	private AtenPDUStatisticsSnapshot(AtenPDUStatisticsSnapshot snapshot, long timestamp) {
+		this.statistics = snapshot.statistics;
+		this.controllableProperties = snapshot.controllableProperties;
+		this.timestamp = timestamp;
+		this.extendedStatistics = snapshot.extendedStatistics;
+	}
+
+	/**
+	 * Retrieves {@link #statistics}
+	 *
+	 * @return unmodifiable value of {@link #statistics}
+	 */
+	public Map<String, String> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Retrieves {@link #controllableProperties}
+	 *
+	 * @return unmodifiable value of {@link #controllableProperties}
+	 */
+	public List<AdvancedControllableProperty> getControllableProperties() {
+		return controllableProperties;
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retrieves the snapshot as {@link ExtendedStatistics}, the same instance is returned for every call
+	 *
+	 * @return value of {@link #extendedStatistics}
+	 */
+	public ExtendedStatistics toExtendedStatistics() {
+		return extendedStatistics;
+	}
+
+	/**
+	 * Create a copy of this snapshot retrieved at another time, nothing is copied and the same
+	 * {@link ExtendedStatistics} instance is returned by {@link #toExtendedStatistics()}
+	 *
+	 * @param timestamp time the unchanged statistics were retrieved from the device
+	 * @return the new snapshot
+	 */
+	public AtenPDUStatisticsSnapshot withTimestamp(long timestamp) {
+		return new AtenPDUStatisticsSnapshot(this, timestamp);
+	}
+
+	/**
+	 * Create a copy of this snapshot with the values of several controlled properties updated at once
+	 *
+	 * @param controlValues values set by name of the control property
+	 * @return the new snapshot
+	 */
+	public AtenPDUStatisticsSnapshot withControlValues(Map<String, String> controlValues) {
+		Map<String, String> newStatistics = new HashMap<>(statistics);
+		newStatistics.putAll(controlValues);
+		Date now = new Date();
+		List<AdvancedControllableProperty> newControllableProperties = new ArrayList<>(controllableProperties.size());
+		for (AdvancedControllableProperty property : controllableProperties) {
+			String value = controlValues.get(property.getName());
+			if (value != null) {
+				newControllableProperties.add(new AdvancedControllableProperty(property.getName(), now, property.getType(), value));
+			} else {
+				newControllableProperties.add(property);
+			}
+		}
+		return new AtenPDUStatisticsSnapshot(newStatistics, newControllableProperties, timestamp);
+	}
+}
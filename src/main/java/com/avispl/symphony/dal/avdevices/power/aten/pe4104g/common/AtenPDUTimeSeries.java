@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+/**
+ * AtenPDUTimeSeries class is a fixed-size ring buffer of timestamped samples stored in primitive arrays
+ *
+ * Adding a sample overwrites the oldest one once the buffer is full, nothing is allocated per sample.
+ * The aggregates are computed over the samples not older than a given timestamp.
+ * The class isn't thread-safe, it's used while holding the communicator lock.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUTimeSeries {
+	private final long[] timestamps;
+	private final double[] values;
+	private int next;
+	private int size;
+
+	/**
+	 * Create a new AtenPDUTimeSeries
+	 *
+	 * @param capacity maximum number of samples kept
+	 */
+	public AtenPDUTimeSeries(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("The capacity of the time series must be positive");
+		}
+		this.timestamps = new long[capacity];
+		this.values = new double[capacity];
+	}
+
+	/**
+	 * Add a sample, the oldest sample is overwritten if the buffer is full
+	 *
+	 * @param timestamp time of the sample in milliseconds
+	 * @param value value of the sample
+	 */
+	public void add(long timestamp, double value) {
+		timestamps[next] = timestamp;
+		values[next] = value;
+		next = (next + 1) % timestamps.length;
+		if (size < timestamps.length) {
+			size++;
+		}
+	}
+
+	/**
+	 * Retrieves the number of samples kept
+	 *
+	 * @return number of samples
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Retrieve the minimum value of the samples since a time
+	 *
+	 * @param since the oldest timestamp included
+	 * @return the minimum value, {@link Double#NaN} if there is no sample
+	 */
+	public double getMin(long since) {
+		double min = Double.NaN;
+		for (int i = 0; i < size; i++) {
+			int index = indexFromNewest(i);
+			if (timestamps[index] < since) {
+				break;
+			}
+			if (Double.isNaN(min) || values[index] < min) {
+				min = values[index];
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Retrieve the maximum value of the samples since a time
+	 *
+	 * @param since the oldest timestamp included
+	 * @return the maximum value, {@link Double#NaN} if there is no sample
+	 */
+	public double getMax(long since) {
+		double max = Double.NaN;
+		for (int i = 0; i < size; i++) {
+			int index = indexFromNewest(i);
+			if (timestamps[index] < since) {
+				break;
+			}
+			if (Double.isNaN(max) || values[index] > max) {
+				max = values[index];
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Retrieve the average value of the samples since a time
+	 *
+	 * @param since the oldest timestamp included
+	 * @return the average value, {@link Double#NaN} if there is no sample
+	 */
+	public double getAverage(long since) {
+		double total = 0;
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			int index = indexFromNewest(i);
+			if (timestamps[index] < since) {
+				break;
+			}
+			total += values[index];
+			count++;
+		}
+		return count == 0 ? Double.NaN : total / count;
+	}
+
+	/**
+	 * Count the value changes between consecutive samples since a time
+	 *
+	 * @param since the oldest timestamp included
+	 * @return number of transitions
+	 */
+	public int countTransitions(long since) {
+		int transitions = 0;
+		for (int i = 1; i < size; i++) {
+			int index = indexFromNewest(i);
+			if (timestamps[index] < since) {
+				break;
+			}
+			if (values[index] != values[indexFromNewest(i - 1)]) {
+				transitions++;
+			}
+		}
+		return transitions;
+	}
+
+	/**
+	 * Remove all samples
+	 */
+	public void clear() {
+		next = 0;
+		size = 0;
+	}
+
+	/**
+	 * Retrieve the array index of a sample
+	 *
+	 * @param age position of the sample, 0 for the newest
+	 * @return the array index
+	 */
+	private int indexFromNewest(int age) {
+		int index = next - 1 - age;
+		return index < 0 ? index + timestamps.length : index;
+	}
+}
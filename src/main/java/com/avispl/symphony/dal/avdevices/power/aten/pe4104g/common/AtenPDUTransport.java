@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * AtenPDUTransport is a request/response transport reading and switching the outlets of the device
+ * without the interactive shell
+ *
+ * The values are returned in the form of the shell replies once parsed, so the communicator caches and publishes them
+ * the same way whatever the transport. A command the transport can't resolve is left to the shell.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public interface AtenPDUTransport extends Closeable {
+
+	/**
+	 * Read the values of monitoring commands
+	 *
+	 * @param commands the monitoring commands
+	 * @param timeout time in milliseconds to wait for the device
+	 * @return the values by command position, {@link OutletStatusEnum#getValue()} for an outlet status and the decimal reading
+	 * for a meter, null if the command isn't resolved
+	 * @throws IOException if the device can't be reached or rejects the request
+	 */
+	String[] read(List<AtenPDUMonitoringCommand> commands, long timeout) throws IOException;
+
+	/**
+	 * Switch outlets with a single request
+	 *
+	 * @param outlets the outlet numbers
+	 * @param states the new state by outlet position, true to switch on
+	 * @param timeout time in milliseconds to wait for the device
+	 * @throws IOException if the device can't be reached or rejects the request, no outlet is switched
+	 */
+	void switchOutlets(int[] outlets, boolean[] states, long timeout) throws IOException;
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.MPv1;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * AtenPDUTrapListener class receives the SNMP v1/v2c traps and the informs sent by the devices
+ *
+ * A single socket serves several devices: every device subscribes with its address and community, a notification is
+ * routed by its source address and accepted only with the community of that device. The variable bindings are handed
+ * to the consumer of the device on the listener thread. An inform is acknowledged before it's handed over,
+ * so a slow consumer doesn't make the device send it again.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUTrapListener implements CommandResponder, Closeable {
+	private final Map<InetAddress, Subscription> subscriptions = new ConcurrentHashMap<>();
+	private Snmp snmp;
+	private int port;
+
+	/**
+	 * Create a new AtenPDUTrapListener without subscription
+	 */
+	public AtenPDUTrapListener() {
+	}
+
+	/**
+	 * Create a new AtenPDUTrapListener for a single device
+	 *
+	 * @param source address of the device
+	 * @param community community of the notifications
+	 * @param consumer receives the variable bindings of every accepted notification
+	 */
+	public AtenPDUTrapListener(InetAddress source, String community, Consumer<List<VariableBinding>> consumer) {
+		subscribe(source, community, consumer);
+	}
+
+	/**
+	 * Route the notifications sent from an address to a consumer
+	 *
+	 * @param source address of the device
+	 * @param community community of the notifications
+	 * @param consumer receives the variable bindings of every accepted notification
+	 * @return false if another device already subscribed with the same address, the notifications can't be told apart
+	 */
+	public boolean subscribe(InetAddress source, String community, Consumer<List<VariableBinding>> consumer) {
+		return subscriptions.putIfAbsent(source, new Subscription(community, consumer)) == null;
+	}
+
+	/**
+	 * Stop routing the notifications sent from an address
+	 *
+	 * @param source address of the device
+	 */
+	public void unsubscribe(InetAddress source) {
+		subscriptions.remove(source);
+	}
+
+	/**
+	 * Start listening for notifications
+	 *
+	 * @param listenPort the local UDP port, 0 for a random port
+	 * @return the port the listener is bound to
+	 * @throws IOException if the port can't be bound
+	 */
+	public synchronized int open(int listenPort) throws IOException {
+		close();
+		MessageDispatcherImpl dispatcher = new MessageDispatcherImpl();
+		dispatcher.addMessageProcessingModel(new MPv1());
+		dispatcher.addMessageProcessingModel(new MPv2c());
+		DefaultUdpTransportMapping transportMapping = new DefaultUdpTransportMapping(new UdpAddress("0.0.0.0/" + listenPort));
+		Snmp newSnmp = new Snmp(dispatcher, transportMapping);
+		newSnmp.addCommandResponder(this);
+		newSnmp.listen();
+		snmp = newSnmp;
+		port = transportMapping.getListenAddress().getPort();
+		return port;
+	}
+
+	/**
+	 * Retrieves {@link #port}
+	 *
+	 * @return value of {@link #port}
+	 */
+	public int getPort() {
+		return port;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <A extends Address> void processPdu(CommandResponderEvent<A> event) {
+		PDU notification = event.getPDU();
+		Subscription subscription = findSubscription(event);
+		if (notification == null || subscription == null) {
+			return;
+		}
+		int type = notification.getType();
+		if (type != PDU.TRAP && type != PDU.V1TRAP && type != PDU.INFORM) {
+			return;
+		}
+		if (type == PDU.INFORM) {
+			PDU response = new PDU();
+			response.setType(PDU.RESPONSE);
+			response.setRequestID(notification.getRequestID());
+			response.addAll(notification.getVariableBindings());
+			try {
+				event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(), event.getSecurityModel(), event.getSecurityName(),
+						event.getSecurityLevel(), response, event.getMaxSizeResponsePDU(), event.getStateReference(), new StatusInformation());
+			} catch (MessageException e) {
+				// the device sends the inform again
+			}
+		}
+		event.setProcessed(true);
+		subscription.consumer.accept(new ArrayList<>(notification.getVariableBindings()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (snmp != null) {
+			snmp.close();
+			snmp = null;
+		}
+	}
+
+	/**
+	 * Find the subscription of the device which sent a notification with its community
+	 *
+	 * @param event the received notification
+	 * @return the subscription, null if the notification isn't accepted
+	 */
+	private <A extends Address> Subscription findSubscription(CommandResponderEvent<A> event) {
+		Address peerAddress = event.getPeerAddress();
+		if (!(peerAddress instanceof IpAddress)) {
+			return null;
+		}
+		Subscription subscription = subscriptions.get(((IpAddress) peerAddress).getInetAddress());
+		if (subscription == null || event.getSecurityName() == null || !subscription.community.equals(new String(event.getSecurityName()))) {
+			return null;
+		}
+		return subscription;
+	}
+
+	/**
+	 * Community and consumer of the notifications of a device
+	 */
+	private static class Subscription {
+		private final String community;
+		private final Consumer<List<VariableBinding>> consumer;
+
+		/**
+		 * Constructor for Subscription class
+		 *
+		 * @param community community of the notifications
+		 * @param consumer receives the variable bindings of every accepted notification
+		 */
+		Subscription(String community, Consumer<List<VariableBinding>> consumer) {
+			this.community = community;
+			this.consumer = consumer;
+		}
+	}
+}
@@ -4,7 +4,6 @@
 
 package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
 
-import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -18,6 +17,9 @@ public enum OutletStatusEnum {
 	ON("On", "on"),
 	OFF("Off", "off");
 
+	private static final Optional<OutletStatusEnum> OPTIONAL_ON = Optional.of(ON);
+	private static final Optional<OutletStatusEnum> OPTIONAL_OFF = Optional.of(OFF);
+
 	private final String name;
 	private final String value;
 
@@ -58,7 +60,32 @@ public enum OutletStatusEnum {
 	 * @return OutletStatus want to get
 	 */
 	public static Optional<OutletStatusEnum> getByValue(String value) {
-		return Arrays.stream(OutletStatusEnum.values()).filter(status -> status.getValue().equals(value))
-				.findFirst();
+		if (value == null) {
+			return Optional.empty();
+		}
+		OutletStatusEnum status = getByValue(value, 0, value.length());
+		if (status == null) {
+			return Optional.empty();
+		}
+		return status == ON ? OPTIONAL_ON : OPTIONAL_OFF;
+	}
+
+	/**
+	 * This method is used to get OutletStatus by a region of a text without copying it
+	 *
+	 * @param text the text containing the status of outlet
+	 * @param start index of the first character of the status
+	 * @param end index after the last character of the status
+	 * @return OutletStatus want to get or null if the region isn't a valid status
+	 */
+	public static OutletStatusEnum getByValue(String text, int start, int end) {
+		int length = end - start;
+		if (length == ON.value.length() && text.regionMatches(start, ON.value, 0, length)) {
+			return ON;
+		}
+		if (length == OFF.value.length() && text.regionMatches(start, OFF.value, 0, length)) {
+			return OFF;
+		}
+		return null;
 	}
 }
\ No newline at end of file
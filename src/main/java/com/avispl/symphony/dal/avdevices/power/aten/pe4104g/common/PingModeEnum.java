@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+/**
+ * This enum represents the ways the adapter measures the latency of the device
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public enum PingModeEnum {
+	TCP("TCP"),
+	PARALLEL_TCP("ParallelTCP"),
+	ICMP("ICMP"),
+	SESSION("Session");
+
+	private final String name;
+
+	/**
+	 * Create a new PingModeEnum with the specified name
+	 *
+	 * @param name of the ping mode
+	 */
+	PingModeEnum(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * This method is used to get the ping mode by name
+	 *
+	 * @param name of the ping mode
+	 * @return the ping mode, {@link #TCP} if the name is unknown
+	 */
+	public static PingModeEnum getByName(String name) {
+		for (PingModeEnum pingMode : values()) {
+			if (pingMode.name.equalsIgnoreCase(name)) {
+				return pingMode;
+			}
+		}
+		return TCP;
+	}
+}
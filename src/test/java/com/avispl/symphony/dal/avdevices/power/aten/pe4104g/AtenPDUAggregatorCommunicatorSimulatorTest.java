@@ -0,0 +1,308 @@
+/*
+ *
+ *  * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ *
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g;
+
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.simulator.AtenPDUSimulator;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.simulator.AtenPDUSnmpSimulator;
+
+/**
+ * AtenPDUAggregatorCommunicatorSimulatorTest for unit test of AtenPDUAggregatorCommunicator against several local {@link AtenPDUSimulator}
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AtenPDUAggregatorCommunicatorSimulatorTest {
+	private static final String LOGIN = "administrator";
+	private static final String PASSWORD = "password";
+	private static final int DEVICE_COUNT = 3;
+	private static final long AWAIT_TIMEOUT = 10000;
+	private static final long AWAIT_POLL_INTERVAL = 20;
+
+	private final List<AtenPDUSimulator> simulators = new ArrayList<>();
+	private final List<String> deviceIds = new ArrayList<>();
+	private AtenPDUAggregatorCommunicator aggregatorCommunicator;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		StringBuilder pduHosts = new StringBuilder();
+		for (int i = 0; i < DEVICE_COUNT; i++) {
+			AtenPDUSimulator simulator = new AtenPDUSimulator(LOGIN, PASSWORD);
+			String deviceId = "127.0.0.1:" + simulator.start();
+			simulators.add(simulator);
+			deviceIds.add(deviceId);
+			pduHosts.append(pduHosts.length() == 0 ? "" : ",").append(deviceId);
+		}
+		aggregatorCommunicator = new AtenPDUAggregatorCommunicator();
+		aggregatorCommunicator.setHost("127.0.0.1");
+		aggregatorCommunicator.setLogin(LOGIN);
+		aggregatorCommunicator.setPassword(PASSWORD);
+		aggregatorCommunicator.setPduHosts(pduHosts.toString());
+	}
+
+	@AfterEach
+	public void destroy() throws Exception {
+		aggregatorCommunicator.destroy();
+		for (AtenPDUSimulator simulator : simulators) {
+			simulator.close();
+		}
+	}
+
+	/**
+	 * Condition checked by {@link #awaitCondition(Condition)}
+	 */
+	private interface Condition {
+		boolean isMet() throws Exception;
+	}
+
+	/**
+	 * Wait until a condition set by a background thread of the adapter is met, at most {@link #AWAIT_TIMEOUT}
+	 *
+	 * @param condition the condition
+	 * @return true if the condition is met
+	 */
+	private boolean awaitCondition(Condition condition) throws Exception {
+		long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT;
+		while (!condition.isMet()) {
+			if (System.currentTimeMillis() > deadline) {
+				return false;
+			}
+			Thread.sleep(AWAIT_POLL_INTERVAL);
+		}
+		return true;
+	}
+
+	/**
+	 * Test retrieveMultipleStatistics
+	 *
+	 * Expect every PDU is reported online with its own statistics and the model of its session
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testRetrieveMultipleStatistics() throws Exception {
+		simulators.get(1).setOutletOn(2, false);
+		aggregatorCommunicator.init();
+		List<AggregatedDevice> aggregatedDevices = aggregatorCommunicator.retrieveMultipleStatistics();
+		Assertions.assertEquals(DEVICE_COUNT, aggregatedDevices.size());
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices) {
+			Assertions.assertTrue(aggregatedDevice.getDeviceOnline());
+			Assertions.assertEquals("PE4104G", aggregatedDevice.getDeviceModel());
+		}
+		Assertions.assertEquals("PE4104G " + deviceIds.get(1), aggregatedDevices.get(1).getDeviceName());
+		Assertions.assertEquals("0", aggregatedDevices.get(1).getProperties().get("Outlet2"));
+		Assertions.assertEquals("1", aggregatedDevices.get(0).getProperties().get("Outlet2"));
+
+		Map<String, String> stats = ((ExtendedStatistics) aggregatorCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals(String.valueOf(DEVICE_COUNT), stats.get("MonitoredDevicesTotal"));
+		Assertions.assertEquals(String.valueOf(DEVICE_COUNT), stats.get("OnlineDevices"));
+	}
+
+	/**
+	 * Test retrieveMultipleStatistics with one PDU which doesn't answer within the monitoring deadline
+	 *
+	 * Expect the PDU is reported offline and the other PDUs online
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testMonitoringDeadline() throws Exception {
+		aggregatorCommunicator.setMonitoringDeadline("3000");
+		simulators.get(0).holdCommand(AtenPDUSimulator.READ_STATUS);
+		aggregatorCommunicator.init();
+		List<AggregatedDevice> aggregatedDevices = aggregatorCommunicator.retrieveMultipleStatistics();
+		simulators.get(0).releaseCommand(AtenPDUSimulator.READ_STATUS);
+		Assertions.assertEquals(DEVICE_COUNT, aggregatedDevices.size());
+		Assertions.assertFalse(aggregatedDevices.get(0).getDeviceOnline());
+		Assertions.assertTrue(aggregatedDevices.get(1).getDeviceOnline());
+		Assertions.assertTrue(aggregatedDevices.get(2).getDeviceOnline());
+
+		Map<String, String> stats = ((ExtendedStatistics) aggregatorCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals(String.valueOf(DEVICE_COUNT - 1), stats.get("OnlineDevices"));
+	}
+
+	/**
+	 * Test retrieveMultipleStatistics with a single worker after a PDU failed
+	 *
+	 * Expect the failed PDU is polled first by the next request
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testPollOrder() throws Exception {
+		aggregatorCommunicator.setPollingThreads("1");
+		aggregatorCommunicator.setMonitoringDeadline("2000");
+		simulators.get(2).setCommandFailure(AtenPDUSimulator.READ_STATUS, AtenPDUSimulator.FailureMode.NO_RESPONSE);
+		aggregatorCommunicator.init();
+		List<AggregatedDevice> aggregatedDevices = aggregatorCommunicator.retrieveMultipleStatistics();
+		Assertions.assertFalse(aggregatedDevices.get(2).getDeviceOnline());
+
+		simulators.get(2).reset();
+		simulators.get(2).holdCommand(AtenPDUSimulator.READ_STATUS);
+		long firstCommandCount = simulators.get(0).getCommandCount();
+		long secondCommandCount = simulators.get(1).getCommandCount();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<List<AggregatedDevice>> poll = executor.submit(() -> aggregatorCommunicator.retrieveMultipleStatistics());
+			Assertions.assertTrue(simulators.get(2).awaitHeldCommand(AtenPDUSimulator.READ_STATUS, AWAIT_TIMEOUT));
+			Assertions.assertEquals(firstCommandCount, simulators.get(0).getCommandCount());
+			Assertions.assertEquals(secondCommandCount, simulators.get(1).getCommandCount());
+			simulators.get(2).releaseCommand(AtenPDUSimulator.READ_STATUS);
+			poll.get();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test retrieveMultipleStatistics with fewer open sessions allowed than PDUs
+	 *
+	 * Expect the least recently used session is disconnected to open another one and the open sessions are reused
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testMaxOpenSessions() throws Exception {
+		aggregatorCommunicator.setPollingThreads("1");
+		aggregatorCommunicator.setMaxOpenSessions("2");
+		aggregatorCommunicator.init();
+		aggregatorCommunicator.retrieveMultipleStatistics();
+		// the session of the first PDU is disconnected to open the session of the third PDU
+		aggregatorCommunicator.retrieveMultipleStatistics(Collections.singletonList(deviceIds.get(0)));
+		aggregatorCommunicator.retrieveMultipleStatistics(Collections.singletonList(deviceIds.get(2)));
+		Assertions.assertEquals(2, simulators.get(0).getLoginCount());
+		Assertions.assertEquals(1, simulators.get(1).getLoginCount());
+		Assertions.assertEquals(1, simulators.get(2).getLoginCount());
+
+		aggregatorCommunicator.retrieveMultipleStatistics(Collections.singletonList(deviceIds.get(1)));
+		Assertions.assertEquals(2, simulators.get(1).getLoginCount());
+	}
+
+	/**
+	 * Switch off an outlet of one PDU through the aggregator
+	 *
+	 * Expect only the addressed PDU is switched and its aggregated device is updated
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testControlProperty() throws Exception {
+		aggregatorCommunicator.init();
+		aggregatorCommunicator.retrieveMultipleStatistics();
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setDeviceId(deviceIds.get(2));
+		controllableProperty.setProperty("Outlet4");
+		controllableProperty.setValue("0");
+		aggregatorCommunicator.controlProperty(controllableProperty);
+		Assertions.assertFalse(simulators.get(2).isOutletOn(4));
+		Assertions.assertTrue(simulators.get(0).isOutletOn(4));
+
+		List<AggregatedDevice> aggregatedDevices = aggregatorCommunicator.retrieveMultipleStatistics();
+		Assertions.assertEquals("0", aggregatedDevices.get(2).getProperties().get("Outlet4"));
+	}
+
+	/**
+	 * Switch off an outlet of two PDUs through the aggregator while the outlet of the first one doesn't exist
+	 *
+	 * Expect the other PDU is still switched and the failure is reported
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testControlPropertiesFailure() throws Exception {
+		aggregatorCommunicator.init();
+		aggregatorCommunicator.retrieveMultipleStatistics();
+		List<ControllableProperty> controllableProperties = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setDeviceId(deviceIds.get(i));
+			controllableProperty.setProperty(i == 0 ? "Outlet9" : "Outlet4");
+			controllableProperty.setValue("0");
+			controllableProperties.add(controllableProperty);
+		}
+		Assertions.assertThrows(IllegalArgumentException.class, () -> aggregatorCommunicator.controlProperties(controllableProperties));
+		Assertions.assertTrue(simulators.get(0).isOutletOn(4));
+		Assertions.assertFalse(simulators.get(1).isOutletOn(4));
+	}
+
+	/**
+	 * Test init with invalid PDU hosts mixed with the valid ones
+	 *
+	 * Expect the invalid hosts are skipped and the valid PDUs are monitored
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testInvalidPduHosts() throws Exception {
+		aggregatorCommunicator.setPduHosts(String.join(",", deviceIds) + ",127.0.0.1:port,[::1,127.0.0.1:70000");
+		aggregatorCommunicator.init();
+		List<AggregatedDevice> aggregatedDevices = aggregatorCommunicator.retrieveMultipleStatistics();
+		Assertions.assertEquals(DEVICE_COUNT, aggregatedDevices.size());
+		Map<String, String> stats = ((ExtendedStatistics) aggregatorCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals(String.valueOf(DEVICE_COUNT), stats.get("MonitoredDevicesTotal"));
+	}
+
+	/**
+	 * Test retrieveMultipleStatistics with an outlet switched off outside the adapter while the notifications are received
+	 *
+	 * Expect the trap received on the socket of the aggregator is routed to the PDU without polling it again
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testTrapListener() throws Exception {
+		int listenerPort;
+		try (DatagramSocket socket = new DatagramSocket(0, InetAddress.getByName("127.0.0.1"))) {
+			listenerPort = socket.getLocalPort();
+		}
+		try (AtenPDUSnmpSimulator snmpSimulator = new AtenPDUSnmpSimulator(simulators.get(0), "public")) {
+			snmpSimulator.start();
+			aggregatorCommunicator.setPduHosts(deviceIds.get(0));
+			aggregatorCommunicator.setTrapListenerPort(String.valueOf(listenerPort));
+			aggregatorCommunicator.setTrapCommunity("public");
+			aggregatorCommunicator.setTrapReconciliationInterval("60000");
+			aggregatorCommunicator.init();
+			Assertions.assertEquals("1", aggregatorCommunicator.retrieveMultipleStatistics().get(0).getProperties().get("Outlet2"));
+			long commandCount = simulators.get(0).getCommandCount();
+
+			simulators.get(0).setOutletOn(2, false);
+			snmpSimulator.sendOutletNotification(listenerPort, 2);
+			Assertions.assertTrue(awaitCondition(() -> "0".equals(aggregatorCommunicator.retrieveMultipleStatistics().get(0).getProperties().get("Outlet2"))));
+			Assertions.assertEquals(commandCount, simulators.get(0).getCommandCount());
+		}
+	}
+
+	/**
+	 * Test retrieveMultipleStatistics with a PDU not polled for longer than the idle timeout
+	 *
+	 * Expect the idle session is disconnected and reopened by the next poll
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testIdleSessionEviction() throws Exception {
+		aggregatorCommunicator.setSessionIdleTimeout("200");
+		aggregatorCommunicator.init();
+		aggregatorCommunicator.retrieveMultipleStatistics();
+		Thread.sleep(300);
+		List<String> polledDevices = new ArrayList<>(deviceIds.subList(1, DEVICE_COUNT));
+		aggregatorCommunicator.retrieveMultipleStatistics(polledDevices);
+		aggregatorCommunicator.retrieveMultipleStatistics();
+		Assertions.assertEquals(2, simulators.get(0).getLoginCount());
+	}
+}
@@ -0,0 +1,864 @@
+/*
+ *
+ *  * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ *
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g;
+
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.security.auth.login.FailedLoginException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUControlJournal;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.simulator.AtenPDUSimulator;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.simulator.AtenPDUSnmpSimulator;
+
+/**
+ * AtenPDUCommunicatorSimulatorTest for unit test of AtenPDUCommunicator against the local {@link AtenPDUSimulator}
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AtenPDUCommunicatorSimulatorTest {
+	private static final String LOGIN = "administrator";
+	private static final String PASSWORD = "password";
+	private static final long AWAIT_TIMEOUT = 10000;
+	private static final long AWAIT_POLL_INTERVAL = 20;
+
+	private AtenPDUSimulator simulator;
+	private AtenPDUCommunicator atenPDUCommunicator;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		simulator = new AtenPDUSimulator(LOGIN, PASSWORD);
+		int port = simulator.start();
+		atenPDUCommunicator = new AtenPDUCommunicator();
+		atenPDUCommunicator.setHost("127.0.0.1");
+		atenPDUCommunicator.setPort(port);
+		atenPDUCommunicator.setLogin(LOGIN);
+		atenPDUCommunicator.setPassword(PASSWORD);
+	}
+
+	@AfterEach
+	public void destroy() throws Exception {
+		atenPDUCommunicator.destroy();
+		simulator.close();
+	}
+
+	/**
+	 * Init the adapter and open the SSH session to the simulator
+	 */
+	private void connect() throws Exception {
+		atenPDUCommunicator.init();
+		atenPDUCommunicator.connect();
+	}
+
+	/**
+	 * Condition checked by {@link #awaitCondition(Condition)}
+	 */
+	private interface Condition {
+		boolean isMet() throws Exception;
+	}
+
+	/**
+	 * Wait until a condition set by a background thread of the adapter is met, at most {@link #AWAIT_TIMEOUT}
+	 *
+	 * @param condition the condition
+	 * @return true if the condition is met
+	 */
+	private boolean awaitCondition(Condition condition) throws Exception {
+		long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT;
+		while (!condition.isMet()) {
+			if (System.currentTimeMillis() > deadline) {
+				return false;
+			}
+			Thread.sleep(AWAIT_POLL_INTERVAL);
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieve the statistics of the adapter
+	 *
+	 * @return the statistics
+	 */
+	private Map<String, String> getStatistics() throws Exception {
+		return ((ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	/**
+	 * Retrieve the current value of a controllable property
+	 *
+	 * @param extendedStatistics the statistics returned by the adapter
+	 * @param name name of the property
+	 * @return the value of the property
+	 */
+	private String getControlValue(ExtendedStatistics extendedStatistics, String name) {
+		return String.valueOf(extendedStatistics.getControllableProperties().stream().filter(item -> item.getName().equals(name)).findFirst().get().getValue());
+	}
+
+	/**
+	 * Test getMultipleStatistics with the bulk status read
+	 *
+	 * Expect all outlets are retrieved from the combined response
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testGetMultipleStatistics() throws Exception {
+		simulator.setOutletOn(2, false);
+		connect();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		List<AdvancedControllableProperty> advancedControllableProperties = extendedStatistics.getControllableProperties();
+		Map<String, String> statistics = extendedStatistics.getStatistics();
+		Assertions.assertEquals(5, statistics.size());
+		Assertions.assertEquals(5, advancedControllableProperties.size());
+		Assertions.assertEquals("1", statistics.get("Outlet1"));
+		Assertions.assertEquals("0", statistics.get("Outlet2"));
+		Assertions.assertEquals("1", statistics.get("Outlet4"));
+	}
+
+	/**
+	 * Test getMultipleStatistics with one request per outlet
+	 *
+	 * Expect the same statistics as the bulk status read
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testGetMultipleStatisticsWithoutBulkStatusRead() throws Exception {
+		atenPDUCommunicator.setBulkStatusRead("false");
+		simulator.setOutletOn(3, false);
+		connect();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Map<String, String> statistics = extendedStatistics.getStatistics();
+		Assertions.assertEquals(5, statistics.size());
+		Assertions.assertEquals("0", statistics.get("Outlet3"));
+		Assertions.assertEquals(4, simulator.getCommandCount());
+	}
+
+	/**
+	 * Switch off an outlet of the simulator
+	 *
+	 * Expect the simulated outlet and the statistics are switched off
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testControlSwitchOffOutlet() throws Exception {
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet2");
+		controllableProperty.setValue("0");
+		atenPDUCommunicator.controlProperty(controllableProperty);
+		Assertions.assertFalse(simulator.isOutletOn(2));
+
+		atenPDUCommunicator.getMultipleStatistics();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertEquals("0", getControlValue(extendedStatistics, "Outlet2"));
+	}
+
+	/**
+	 * Switch off an outlet before the first poll
+	 *
+	 * Expect the control is rejected instead of being silently dropped
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testControlBeforeFirstPoll() throws Exception {
+		connect();
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet2");
+		controllableProperty.setValue("0");
+		Assertions.assertThrows(IllegalArgumentException.class, () -> atenPDUCommunicator.controlProperty(controllableProperty));
+		Assertions.assertTrue(simulator.isOutletOn(2));
+	}
+
+	/**
+	 * Switch off an outlet with the control queue while the device is slow
+	 *
+	 * Expect the control returns before the device answers and is applied by the next poll
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testControlQueue() throws Exception {
+		atenPDUCommunicator.setControlQueue("true");
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		simulator.holdCommand(AtenPDUSimulator.SWITCH);
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet3");
+		controllableProperty.setValue("0");
+		atenPDUCommunicator.controlProperty(controllableProperty);
+		// the control returned while the device hasn't switched the outlet yet
+		Assertions.assertTrue(simulator.isOutletOn(3));
+
+		simulator.releaseCommand(AtenPDUSimulator.SWITCH);
+		atenPDUCommunicator.getMultipleStatistics();
+		Assertions.assertFalse(simulator.isOutletOn(3));
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertEquals("0", getControlValue(extendedStatistics, "Outlet3"));
+	}
+
+	/**
+	 * Test getMultipleStatistics with the background refresh while the device is slow
+	 *
+	 * Expect the snapshot is returned immediately with its age and the background thread picks up the device changes
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testBackgroundRefresh() throws Exception {
+		atenPDUCommunicator.setBackgroundRefresh("true");
+		atenPDUCommunicator.setBackgroundRefreshInterval("1000");
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		simulator.holdCommand(AtenPDUSimulator.READ_STATUS);
+		simulator.setOutletOn(4, false);
+		Assertions.assertTrue(simulator.awaitHeldCommand(AtenPDUSimulator.READ_STATUS, AWAIT_TIMEOUT));
+
+		// the background refresh is waiting for the device, the snapshot is returned without waiting for it
+		Map<String, String> stats = getStatistics();
+		Assertions.assertEquals("1", stats.get("Outlet4"));
+		Assertions.assertNotNull(stats.get("StatisticsAge(s)"));
+
+		simulator.releaseCommand(AtenPDUSimulator.READ_STATUS);
+		Assertions.assertTrue(awaitCondition(() -> "0".equals(getStatistics().get("Outlet4"))));
+	}
+
+	/**
+	 * Test getMultipleStatistics while the device doesn't answer
+	 *
+	 * Expect the polls fail fast once the circuit breakers are open and the device recovery is detected by a single probe
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testCircuitBreaker() throws Exception {
+		atenPDUCommunicator.setCircuitBreakerThreshold("1");
+		atenPDUCommunicator.setCircuitBreakerBackoff("1000");
+		atenPDUCommunicator.setMonitoringDeadline("2000");
+		connect();
+		simulator.setCommandFailure(AtenPDUSimulator.READ_STATUS, AtenPDUSimulator.FailureMode.NO_RESPONSE);
+		Assertions.assertThrows(ResourceNotReachableException.class, () -> atenPDUCommunicator.getMultipleStatistics());
+
+		long commandCount = simulator.getCommandCount();
+		Assertions.assertThrows(ResourceNotReachableException.class, () -> atenPDUCommunicator.getMultipleStatistics());
+		Assertions.assertEquals(commandCount, simulator.getCommandCount());
+
+		simulator.reset();
+		// the polls keep failing without contacting the device until the backoff elapsed and the probe succeeds
+		Assertions.assertTrue(awaitCondition(() -> {
+			try {
+				atenPDUCommunicator.getMultipleStatistics();
+				return true;
+			} catch (ResourceNotReachableException e) {
+				return false;
+			}
+		}));
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertEquals("1", extendedStatistics.getStatistics().get("Outlet1"));
+		Assertions.assertEquals("1", extendedStatistics.getStatistics().get("Outlet4"));
+	}
+
+	/**
+	 * Test getMultipleStatistics with a monitoring deadline shorter than the device latency
+	 *
+	 * Expect the poll stops sending commands at the deadline and the outlets not retrieved keep their value and are reported as stale
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testMonitoringDeadline() throws Exception {
+		atenPDUCommunicator.setBulkStatusRead("false");
+		atenPDUCommunicator.setMonitoringDeadline("1000");
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		simulator.setCommandLatency(AtenPDUSimulator.READ_STATUS, 400);
+
+		int commandLogSize = simulator.getCommandLog().size();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		List<String> commandLog = simulator.getCommandLog();
+		List<String> pollCommands = commandLog.subList(commandLogSize, commandLog.size());
+		Assertions.assertFalse(pollCommands.contains("read status o04 simple"));
+		Assertions.assertTrue(extendedStatistics.getStatistics().get("StaleProperties").contains("Outlet4"));
+		Assertions.assertEquals("1", extendedStatistics.getStatistics().get("Outlet4"));
+	}
+
+	/**
+	 * Test getMultipleStatistics with the adapter metrics
+	 *
+	 * Expect the latency and error summaries of the operations since the previous poll are published with the statistics
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testAdapterMetrics() throws Exception {
+		atenPDUCommunicator.setAdapterMetrics("true");
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		for (int i = 0; i < 2; i++) {
+			Map<String, String> stats = getStatistics();
+			Assertions.assertTrue(Long.parseLong(stats.get("AdapterMetrics#MonitoringCommandCount")) >= 1);
+			Assertions.assertEquals("0", stats.get("AdapterMetrics#MonitoringCommandErrors"));
+			Assertions.assertNotNull(stats.get("AdapterMetrics#MonitoringCommandP99(ms)"));
+			Assertions.assertEquals("1", stats.get("AdapterMetrics#LockWaitCount"));
+		}
+	}
+
+	/**
+	 * Switch all outlets with a single controlProperties call
+	 *
+	 * Expect a list with an unsupported property is rejected before anything is sent, and a valid list switches every outlet
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testControlProperties() throws Exception {
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		List<ControllableProperty> controllableProperties = new ArrayList<>();
+		for (int outlet = 1; outlet <= 4; outlet++) {
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty("Outlet" + outlet);
+			controllableProperty.setValue("0");
+			controllableProperties.add(controllableProperty);
+		}
+		ControllableProperty unsupportedProperty = new ControllableProperty();
+		unsupportedProperty.setProperty("Unsupported");
+		unsupportedProperty.setValue("0");
+		controllableProperties.add(unsupportedProperty);
+		long commandCount = simulator.getCommandCount();
+		Assertions.assertThrows(IllegalArgumentException.class, () -> atenPDUCommunicator.controlProperties(controllableProperties));
+		Assertions.assertEquals(commandCount, simulator.getCommandCount());
+
+		controllableProperties.remove(unsupportedProperty);
+		atenPDUCommunicator.controlProperties(controllableProperties);
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		for (int outlet = 1; outlet <= 4; outlet++) {
+			Assertions.assertFalse(simulator.isOutletOn(outlet));
+			Assertions.assertEquals("0", getControlValue(extendedStatistics, "Outlet" + outlet));
+		}
+	}
+
+	/**
+	 * Switch off an outlet with the dedicated control channel while a slow poll is running
+	 *
+	 * Expect the control doesn't wait for the poll and is sent through a second session
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testDedicatedControlChannel() throws Exception {
+		atenPDUCommunicator.setDedicatedControlChannel("true");
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		simulator.holdCommand(AtenPDUSimulator.READ_STATUS);
+		Thread poll = new Thread(() -> {
+			try {
+				atenPDUCommunicator.getMultipleStatistics();
+			} catch (Exception e) {
+				// the poll result isn't verified
+			}
+		});
+		poll.start();
+		Assertions.assertTrue(simulator.awaitHeldCommand(AtenPDUSimulator.READ_STATUS, AWAIT_TIMEOUT));
+		// the poll holds the monitoring session until the device answers
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet1");
+		controllableProperty.setValue("0");
+		atenPDUCommunicator.controlProperty(controllableProperty);
+		Assertions.assertFalse(simulator.isOutletOn(1));
+		Assertions.assertEquals(2, simulator.getLoginCount());
+		simulator.releaseCommand(AtenPDUSimulator.READ_STATUS);
+		poll.join();
+	}
+
+	/**
+	 * Test ping with the parallel TCP and the session ping modes
+	 *
+	 * Expect a latency is reported by both modes and the parallel mode fails fast on a closed port
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testPingModes() throws Exception {
+		atenPDUCommunicator.setPingMode("ParallelTCP");
+		connect();
+		Assertions.assertTrue(atenPDUCommunicator.ping() >= 1);
+
+		atenPDUCommunicator.setPingMode("Session");
+		atenPDUCommunicator.getMultipleStatistics();
+		long commandCount = simulator.getCommandCount();
+		Assertions.assertTrue(atenPDUCommunicator.ping() >= 1);
+		Assertions.assertEquals(commandCount, simulator.getCommandCount());
+
+		AtenPDUCommunicator closedPortCommunicator = new AtenPDUCommunicator();
+		closedPortCommunicator.setHost("127.0.0.1");
+		closedPortCommunicator.setPort(1);
+		closedPortCommunicator.setPingMode("ParallelTCP");
+		closedPortCommunicator.init();
+		try {
+			Assertions.assertThrows(SocketTimeoutException.class, closedPortCommunicator::ping);
+		} finally {
+			closedPortCommunicator.destroy();
+		}
+	}
+
+	/**
+	 * Test getMultipleStatistics with the power metering
+	 *
+	 * Expect the device and outlet readings are retrieved and follow the outlet states
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testPowerMetering() throws Exception {
+		atenPDUCommunicator.setPowerMetering("true");
+		simulator.setOutletOn(2, false);
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Map<String, String> stats = extendedStatistics.getStatistics();
+		Assertions.assertEquals("1.50", stats.get("Current(A)"));
+		Assertions.assertEquals("120.0", stats.get("Voltage(V)"));
+		Assertions.assertEquals("180.0", stats.get("Power(W)"));
+		Assertions.assertEquals("0.50", stats.get("Outlet1#Current(A)"));
+		Assertions.assertEquals("0.00", stats.get("Outlet2#Current(A)"));
+		Assertions.assertEquals("0.060", stats.get("Outlet4#Energy(kWh)"));
+
+		atenPDUCommunicator.destroy();
+		atenPDUCommunicator.setPowerMetering("false");
+		connect();
+		extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertNull(extendedStatistics.getStatistics().get("Current(A)"));
+	}
+
+	/**
+	 * Test getMultipleStatistics with a trend window while an outlet keeps switching
+	 *
+	 * Expect the flaps of the outlet and the power aggregates over the window are published
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testTrends() throws Exception {
+		atenPDUCommunicator.setTrendWindows("60000");
+		atenPDUCommunicator.setPowerMetering("true");
+		connect();
+		for (int i = 0; i < 3; i++) {
+			simulator.setOutletOn(2, i % 2 == 0);
+			atenPDUCommunicator.getMultipleStatistics();
+		}
+		Map<String, String> stats = ((ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("2", stats.get("Trend60s#Outlet2Flaps"));
+		Assertions.assertEquals("0", stats.get("Trend60s#Outlet1Flaps"));
+		Assertions.assertEquals("180.0", stats.get("Trend60s#PowerMin(W)"));
+		Assertions.assertEquals("240.0", stats.get("Trend60s#PowerMax(W)"));
+		Assertions.assertEquals("60.0", stats.get("Trend60s#Outlet1PowerAvg(W)"));
+	}
+
+	/**
+	 * Replace the simulator by a simulator with the given number of outlets
+	 *
+	 * @param outletCount number of outlets of the simulated device
+	 */
+	private void replaceSimulator(int outletCount) throws Exception {
+		simulator.close();
+		simulator = new AtenPDUSimulator(LOGIN, PASSWORD, outletCount);
+		atenPDUCommunicator.setPort(simulator.start());
+	}
+
+	/**
+	 * Test getMultipleStatistics and controlProperty with an 8-outlet model
+	 *
+	 * Expect every outlet of the model is monitored and can be controlled
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testPduModel() throws Exception {
+		replaceSimulator(8);
+		simulator.setOutletOn(7, false);
+		atenPDUCommunicator.setPduModel("PE8108G");
+		connect();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertEquals(9, extendedStatistics.getControllableProperties().size());
+		Assertions.assertEquals("0", extendedStatistics.getStatistics().get("Outlet7"));
+		Assertions.assertEquals("1", extendedStatistics.getStatistics().get("Outlet8"));
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet8");
+		controllableProperty.setValue("0");
+		atenPDUCommunicator.controlProperty(controllableProperty);
+		Assertions.assertFalse(simulator.isOutletOn(8));
+	}
+
+	/**
+	 * Test getMultipleStatistics with the model discovered from a 16-outlet device
+	 *
+	 * Expect the 16 outlets are monitored
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testPduModelDiscovery() throws Exception {
+		replaceSimulator(16);
+		atenPDUCommunicator.setPduModel("Auto");
+		connect();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertEquals(17, extendedStatistics.getControllableProperties().size());
+		Assertions.assertEquals("1", extendedStatistics.getStatistics().get("Outlet16"));
+		Assertions.assertNull(extendedStatistics.getStatistics().get("Outlet17"));
+	}
+
+	/**
+	 * Test getMultipleStatistics with the model discovered from a 4-outlet device
+	 *
+	 * Expect the smallest model is probed as well and the 4 outlets are monitored
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testPduModelDiscoveryOfSmallestModel() throws Exception {
+		atenPDUCommunicator.setPduModel("Auto");
+		connect();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertEquals(5, extendedStatistics.getControllableProperties().size());
+		Assertions.assertEquals("1", extendedStatistics.getStatistics().get("Outlet4"));
+		Assertions.assertTrue(simulator.getCommandLog().contains("read status o04 simple"));
+	}
+
+	/**
+	 * Test getMultipleStatistics with excluded outlets and a slower polling interval of the energy readings
+	 *
+	 * Expect the excluded outlets are neither polled nor controllable and the energy is only read every 3 polls
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testPollingFilter() throws Exception {
+		atenPDUCommunicator.setExcludedOutlets("2,3");
+		atenPDUCommunicator.setPowerMetering("true");
+		atenPDUCommunicator.setPollingMultipliers("Energy(kWh):3");
+		connect();
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertNull(extendedStatistics.getStatistics().get("Outlet2"));
+		Assertions.assertNull(extendedStatistics.getStatistics().get("Outlet3#Power(W)"));
+		Assertions.assertEquals(3, extendedStatistics.getControllableProperties().size());
+		Assertions.assertEquals(14, simulator.getCommandCount());
+
+		extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertEquals(25, simulator.getCommandCount());
+		Assertions.assertEquals("0.060", extendedStatistics.getStatistics().get("Outlet4#Energy(kWh)"));
+		atenPDUCommunicator.getMultipleStatistics();
+		atenPDUCommunicator.getMultipleStatistics();
+		Assertions.assertEquals(50, simulator.getCommandCount());
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet2");
+		controllableProperty.setValue("0");
+		Assertions.assertThrows(IllegalArgumentException.class, () -> atenPDUCommunicator.controlProperty(controllableProperty));
+	}
+
+	/**
+	 * Test getMultipleStatistics and controlProperty right after a restart with a persisted snapshot
+	 *
+	 * Expect the persisted values are returned without waiting for the first poll and the controls aren't ignored
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testSnapshotDirectory(@TempDir Path snapshotDirectory) throws Exception {
+		simulator.setOutletOn(2, false);
+		atenPDUCommunicator.setSnapshotDirectory(snapshotDirectory.toString());
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		atenPDUCommunicator.destroy();
+
+		simulator.holdCommand(AtenPDUSimulator.READ_STATUS);
+		atenPDUCommunicator.init();
+		// the first poll is waiting for the device, the persisted values are returned without waiting for it
+		Map<String, String> stats = getStatistics();
+		Assertions.assertEquals("0", stats.get("Outlet2"));
+		Assertions.assertEquals("1", stats.get("Outlet1"));
+		Assertions.assertNotNull(stats.get("RestoredSnapshotAge(s)"));
+		simulator.releaseCommand(AtenPDUSimulator.READ_STATUS);
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet1");
+		controllableProperty.setValue("0");
+		atenPDUCommunicator.controlProperty(controllableProperty);
+		Assertions.assertFalse(simulator.isOutletOn(1));
+	}
+
+	/**
+	 * Test getMultipleStatistics with controls left unfinished in the control journal by a crash
+	 *
+	 * Expect the interrupted switch control is retried, the interrupted reboot is abandoned and no control is left unfinished
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testControlJournal(@TempDir Path journalDirectory) throws Exception {
+		Path journalPath = journalDirectory.resolve("AtenPDU-127.0.0.1-" + atenPDUCommunicator.getPort() + ".journal");
+		AtenPDUControlJournal journal = new AtenPDUControlJournal(journalPath, 1048576, 1);
+		journal.open();
+		journal.request("Outlet3", "0");
+		journal.request("Reboot", "1");
+		journal.close();
+
+		atenPDUCommunicator.setControlJournalDirectory(journalDirectory.toString());
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		Assertions.assertTrue(awaitCondition(() -> !simulator.isOutletOn(3)));
+		Assertions.assertEquals(1, simulator.getLoginCount());
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet1");
+		controllableProperty.setValue("0");
+		atenPDUCommunicator.controlProperty(controllableProperty);
+		atenPDUCommunicator.destroy();
+
+		journal = new AtenPDUControlJournal(journalPath, 1048576, 1);
+		Assertions.assertTrue(journal.open().isEmpty());
+		journal.close();
+	}
+
+	/**
+	 * Test getMultipleStatistics with unchanged values, then with an outlet switched off outside the adapter
+	 *
+	 * Expect the same statistics are returned while nothing changes, then the changed outlet is reported with the time of the change
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testChangeDetection() throws Exception {
+		connect();
+		ExtendedStatistics firstStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertNull(firstStatistics.getStatistics().get("LastChangeTime"));
+		ExtendedStatistics secondStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Assertions.assertSame(firstStatistics.getStatistics(), secondStatistics.getStatistics());
+		Assertions.assertSame(firstStatistics.getControllableProperties(), secondStatistics.getControllableProperties());
+
+		simulator.setOutletOn(2, false);
+		ExtendedStatistics changedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+		Map<String, String> stats = changedStatistics.getStatistics();
+		Assertions.assertEquals("0", stats.get("Outlet2"));
+		Assertions.assertTrue(stats.get("ChangedProperties").startsWith("Outlet2"));
+		Assertions.assertNotNull(stats.get("LastChangeTime"));
+		Assertions.assertNotSame(firstStatistics.getControllableProperties(), changedStatistics.getControllableProperties());
+		Assertions.assertEquals("0", getControlValue(changedStatistics, "Outlet2"));
+	}
+
+	/**
+	 * Test getMultipleStatistics and controlProperty with the SNMP connection mode
+	 *
+	 * Expect every value is read with a single SNMP request, the outlet is switched by SNMP and no SSH session is opened
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testSnmpConnectionMode() throws Exception {
+		try (AtenPDUSnmpSimulator snmpSimulator = new AtenPDUSnmpSimulator(simulator, "private")) {
+			atenPDUCommunicator.setConnectionMode("SNMP");
+			atenPDUCommunicator.setSnmpPort(snmpSimulator.start());
+			atenPDUCommunicator.setSnmpCommunity("private");
+			atenPDUCommunicator.setPowerMetering("true");
+			simulator.setOutletOn(2, false);
+			atenPDUCommunicator.init();
+			Map<String, String> stats = ((ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0)).getStatistics();
+			Assertions.assertEquals(25, stats.size());
+			Assertions.assertEquals("0", stats.get("Outlet2"));
+			Assertions.assertEquals("1.50", stats.get("Current(A)"));
+			Assertions.assertEquals("0.00", stats.get("Outlet2#Current(A)"));
+			Assertions.assertEquals(1, snmpSimulator.getRequestCount());
+
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty("Outlet1");
+			controllableProperty.setValue("0");
+			atenPDUCommunicator.controlProperty(controllableProperty);
+			Assertions.assertFalse(simulator.isOutletOn(1));
+			Assertions.assertEquals(2, snmpSimulator.getRequestCount());
+			Assertions.assertEquals(0, simulator.getLoginCount());
+		}
+	}
+
+	/**
+	 * Test getMultipleStatistics with the SNMP connection mode and a community rejected by the device
+	 *
+	 * Expect the values are read through SSH once the SNMP request times out
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testSnmpFallbackToSsh() throws Exception {
+		try (AtenPDUSnmpSimulator snmpSimulator = new AtenPDUSnmpSimulator(simulator, "private")) {
+			atenPDUCommunicator.setConnectionMode("SNMP");
+			atenPDUCommunicator.setSnmpPort(snmpSimulator.start());
+			atenPDUCommunicator.setSnmpCommunity("public");
+			atenPDUCommunicator.setSnmpTimeout(200);
+			simulator.setOutletOn(3, false);
+			connect();
+			Map<String, String> stats = ((ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0)).getStatistics();
+			Assertions.assertEquals("0", stats.get("Outlet3"));
+			Assertions.assertEquals("1", stats.get("Outlet1"));
+			Assertions.assertEquals(0, snmpSimulator.getRequestCount());
+			Assertions.assertTrue(simulator.getCommandCount() > 0);
+		}
+	}
+
+	/**
+	 * Test getMultipleStatistics and controlProperty with the Telnet connection mode
+	 *
+	 * Expect the values are read and the outlet is switched through a single Telnet session, and the Telnet port is pinged
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testTelnetConnectionMode() throws Exception {
+		atenPDUCommunicator.setConnectionMode("Telnet");
+		atenPDUCommunicator.setTelnetPort(String.valueOf(simulator.startTelnet()));
+		// the SSH port isn't used in Telnet mode
+		atenPDUCommunicator.setPort(1);
+		atenPDUCommunicator.setPowerMetering("true");
+		simulator.setOutletOn(2, false);
+		connect();
+		Map<String, String> stats = ((ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals(25, stats.size());
+		Assertions.assertEquals("0", stats.get("Outlet2"));
+		Assertions.assertEquals("1.50", stats.get("Current(A)"));
+		Assertions.assertEquals("0.00", stats.get("Outlet2#Current(A)"));
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet1");
+		controllableProperty.setValue("0");
+		atenPDUCommunicator.controlProperty(controllableProperty);
+		Assertions.assertFalse(simulator.isOutletOn(1));
+		Assertions.assertEquals(1, simulator.getLoginCount());
+
+		atenPDUCommunicator.setPingMode("TCP");
+		Assertions.assertTrue(atenPDUCommunicator.ping() >= 1);
+		atenPDUCommunicator.setPingMode("ParallelTCP");
+		Assertions.assertTrue(atenPDUCommunicator.ping() >= 1);
+	}
+
+	/**
+	 * Test the session management when the session drops between two polls
+	 *
+	 * Expect the session is reopened in background and the next poll doesn't log in again
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testSessionRelogin() throws Exception {
+		atenPDUCommunicator.setSessionManagement("true");
+		atenPDUCommunicator.setSessionKeepaliveInterval("100");
+		connect();
+		atenPDUCommunicator.getMultipleStatistics();
+		Assertions.assertEquals(1, simulator.getLoginCount());
+
+		atenPDUCommunicator.disconnect();
+		Assertions.assertTrue(awaitCondition(() -> simulator.getLoginCount() >= 2));
+		Assertions.assertEquals(2, simulator.getLoginCount());
+		Map<String, String> stats = ((ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assertions.assertEquals("1", stats.get("Outlet1"));
+		Assertions.assertEquals(2, simulator.getLoginCount());
+	}
+
+	/**
+	 * Test the session management with credentials rejected by the device
+	 *
+	 * Expect the poll following the failed login doesn't try to log in again before the backoff elapsed
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testSessionReconnectBackoff() throws Exception {
+		atenPDUCommunicator.setConnectionMode("Telnet");
+		atenPDUCommunicator.setTelnetPort(String.valueOf(simulator.startTelnet()));
+		atenPDUCommunicator.setPassword("wrong");
+		atenPDUCommunicator.setSessionManagement("true");
+		atenPDUCommunicator.setSessionKeepaliveInterval("600000");
+		atenPDUCommunicator.setReconnectBackoff("600000");
+		atenPDUCommunicator.init();
+		try {
+			atenPDUCommunicator.getMultipleStatistics();
+		} catch (FailedLoginException e) {
+			// the first poll reports the rejected credentials
+		}
+		long connectionCount = simulator.getTelnetConnectionCount();
+		Assertions.assertTrue(connectionCount > 0);
+		try {
+			atenPDUCommunicator.getMultipleStatistics();
+		} catch (Exception e) {
+			// the statistics are not available while the session is backing off
+		}
+		Assertions.assertEquals(connectionCount, simulator.getTelnetConnectionCount());
+		Assertions.assertEquals(0, simulator.getLoginCount());
+	}
+
+	/**
+	 * Test getMultipleStatistics with an outlet switched off outside the adapter while the notifications are received
+	 *
+	 * Expect the trap sent by the device is published without polling the device again
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testTrapListener() throws Exception {
+		int listenerPort;
+		try (DatagramSocket socket = new DatagramSocket(0, InetAddress.getByName("127.0.0.1"))) {
+			listenerPort = socket.getLocalPort();
+		}
+		try (AtenPDUSnmpSimulator snmpSimulator = new AtenPDUSnmpSimulator(simulator, "public")) {
+			snmpSimulator.start();
+			atenPDUCommunicator.setTrapListenerPort(String.valueOf(listenerPort));
+			atenPDUCommunicator.setTrapCommunity("public");
+			atenPDUCommunicator.setTrapReconciliationInterval("60000");
+			connect();
+			Assertions.assertEquals("1", ((ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0)).getStatistics().get("Outlet2"));
+			long commandCount = simulator.getCommandCount();
+
+			simulator.setOutletOn(2, false);
+			snmpSimulator.sendOutletNotification(listenerPort, 2);
+			Assertions.assertTrue(awaitCondition(() -> "0".equals(getStatistics().get("Outlet2"))));
+			ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
+			Assertions.assertEquals("0", getControlValue(extendedStatistics, "Outlet2"));
+			Assertions.assertEquals(commandCount, simulator.getCommandCount());
+		}
+	}
+
+	/**
+	 * Test an inform received while a poll is waiting for the device
+	 *
+	 * Expect the inform is acknowledged without waiting for the poll
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testTrapListenerInformDuringPoll() throws Exception {
+		int listenerPort;
+		try (DatagramSocket socket = new DatagramSocket(0, InetAddress.getByName("127.0.0.1"))) {
+			listenerPort = socket.getLocalPort();
+		}
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try (AtenPDUSnmpSimulator snmpSimulator = new AtenPDUSnmpSimulator(simulator, "public")) {
+			snmpSimulator.start();
+			atenPDUCommunicator.setTrapListenerPort(String.valueOf(listenerPort));
+			atenPDUCommunicator.setTrapCommunity("public");
+			atenPDUCommunicator.setTrapReconciliationInterval("0");
+			connect();
+			atenPDUCommunicator.getMultipleStatistics();
+			simulator.holdCommand(AtenPDUSimulator.READ_STATUS);
+			Future<?> poll = executor.submit(() -> atenPDUCommunicator.getMultipleStatistics());
+			Assertions.assertTrue(simulator.awaitHeldCommand(AtenPDUSimulator.READ_STATUS, AWAIT_TIMEOUT));
+
+			simulator.setOutletOn(2, false);
+			Assertions.assertTrue(snmpSimulator.sendOutletInform(listenerPort, 2, AWAIT_TIMEOUT));
+			simulator.releaseCommand(AtenPDUSimulator.READ_STATUS);
+			poll.get();
+			Assertions.assertEquals("0", getStatistics().get("Outlet2"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
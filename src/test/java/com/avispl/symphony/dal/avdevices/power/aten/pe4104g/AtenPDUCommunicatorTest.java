@@ -21,7 +21,6 @@ import org.junit.jupiter.api.Test;
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
-import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUPropertiesEnum;
 
 /**
  * AtenPDUCommunicatorTest for unit test of AtenPDUCommunicator
@@ -75,7 +74,7 @@ class AtenPDUCommunicatorTest {
 	void testControlSwitchOffOutlet() throws Exception {
 		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
 		List<AdvancedControllableProperty> controllablePropertyList = extendedStatistics.getControllableProperties();
-		String outletStatusOn = controllablePropertyList.stream().filter(item -> item.getName().equals(AtenPDUPropertiesEnum.OUTLET_STATUS_1.getName())).findFirst().get().getValue().toString();
+		String outletStatusOn = controllablePropertyList.stream().filter(item -> item.getName().equals("Outlet1")).findFirst().get().getValue().toString();
 		Assertions.assertEquals("1", outletStatusOn);
 
 		ControllableProperty controllableProperty = new ControllableProperty();
@@ -100,7 +99,7 @@ class AtenPDUCommunicatorTest {
 	void testControlSwitchOnOutlet() throws Exception {
 		ExtendedStatistics extendedStatistics = (ExtendedStatistics) atenPDUCommunicator.getMultipleStatistics().get(0);
 		List<AdvancedControllableProperty> controllablePropertyList = extendedStatistics.getControllableProperties();
-		String outletStatusOff = controllablePropertyList.stream().filter(item -> item.getName().equals(AtenPDUPropertiesEnum.OUTLET_STATUS_1.getName())).findFirst().get().getValue().toString();
+		String outletStatusOff = controllablePropertyList.stream().filter(item -> item.getName().equals("Outlet1")).findFirst().get().getValue().toString();
 		Assertions.assertEquals("0", outletStatusOff);
 
 		ControllableProperty controllableProperty = new ControllableProperty();
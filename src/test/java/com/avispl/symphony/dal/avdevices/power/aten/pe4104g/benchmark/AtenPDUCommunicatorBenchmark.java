@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.AtenPDUCommunicator;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.simulator.AtenPDUSimulator;
+
+/**
+ * AtenPDUCommunicatorBenchmark measures the poll and control paths of {@link AtenPDUCommunicator} against the local
+ * {@link AtenPDUSimulator}
+ *
+ * Run with: mvn -P benchmark test-compile exec:exec
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class AtenPDUCommunicatorBenchmark {
+	private static final String LOGIN = "administrator";
+	private static final String PASSWORD = "password";
+
+	/**
+	 * One simulated device shared by all benchmark threads
+	 */
+	@State(Scope.Benchmark)
+	public static class DeviceState {
+
+		/**
+		 * Latency in milliseconds the simulator adds to every command, emulating a WAN-attached device
+		 */
+		@Param({ "0", "20" })
+		public long latency;
+
+		/**
+		 * Configurable bulk status read of the adapter
+		 */
+		@Param({ "true", "false" })
+		public String bulkStatusRead;
+
+		AtenPDUSimulator simulator;
+		AtenPDUCommunicator communicator;
+		final AtomicBoolean outletOn = new AtomicBoolean(true);
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			simulator = new AtenPDUSimulator(LOGIN, PASSWORD);
+			simulator.setDefaultLatency(latency);
+			communicator = createCommunicator(simulator.start(), bulkStatusRead);
+			communicator.getMultipleStatistics();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws Exception {
+			communicator.destroy();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * One adapter instance per benchmark thread, all polling the same simulator,
+	 * used to size how many devices a single node can poll
+	 */
+	@State(Scope.Thread)
+	public static class FleetState {
+		AtenPDUCommunicator communicator;
+
+		@Setup(Level.Trial)
+		public void setup(DeviceState deviceState) throws Exception {
+			communicator = createCommunicator(deviceState.simulator.getPort(), deviceState.bulkStatusRead);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * One simulated device reachable by SSH and Telnet, to compare the connection modes
+	 */
+	@State(Scope.Benchmark)
+	public static class ConnectionModeState {
+
+		/**
+		 * Configurable connection mode of the adapter
+		 */
+		@Param({ "SSH", "Telnet" })
+		public String connectionMode;
+
+		AtenPDUSimulator simulator;
+		AtenPDUCommunicator communicator;
+		int telnetPort;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			simulator = new AtenPDUSimulator(LOGIN, PASSWORD);
+			simulator.start();
+			telnetPort = simulator.startTelnet();
+			communicator = createCommunicator(this);
+			communicator.getMultipleStatistics();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws Exception {
+			communicator.destroy();
+			simulator.close();
+		}
+	}
+
+	/**
+	 * Create an adapter connected to the simulator
+	 *
+	 * @param port port of the simulator
+	 * @param bulkStatusRead configurable bulk status read
+	 * @return the initialized adapter
+	 */
+	static AtenPDUCommunicator createCommunicator(int port, String bulkStatusRead) throws Exception {
+		AtenPDUCommunicator communicator = new AtenPDUCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setPort(port);
+		communicator.setLogin(LOGIN);
+		communicator.setPassword(PASSWORD);
+		communicator.setBulkStatusRead(bulkStatusRead);
+		communicator.init();
+		return communicator;
+	}
+
+	/**
+	 * Create an adapter connected to the simulator with the connection mode of the state
+	 *
+	 * @param state the connection mode state
+	 * @return the initialized adapter
+	 */
+	static AtenPDUCommunicator createCommunicator(ConnectionModeState state) throws Exception {
+		AtenPDUCommunicator communicator = new AtenPDUCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setPort(state.simulator.getPort());
+		communicator.setTelnetPort(String.valueOf(state.telnetPort));
+		communicator.setLogin(LOGIN);
+		communicator.setPassword(PASSWORD);
+		communicator.setConnectionMode(state.connectionMode);
+		communicator.init();
+		return communicator;
+	}
+
+	/**
+	 * Toggle the first outlet of the device
+	 *
+	 * @param state the device state
+	 */
+	static void toggleOutlet(DeviceState state) throws Exception {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty("Outlet1");
+		controllableProperty.setValue(state.outletOn.getAndSet(!state.outletOn.get()) ? "0" : "1");
+		state.communicator.controlProperty(controllableProperty);
+	}
+
+	/**
+	 * Full poll latency
+	 */
+	@Benchmark
+	public List<Statistics> poll(DeviceState state) throws Exception {
+		return state.communicator.getMultipleStatistics();
+	}
+
+	/**
+	 * Control latency of an outlet switch without concurrent polling
+	 */
+	@Benchmark
+	public void control(DeviceState state) throws Exception {
+		toggleOutlet(state);
+	}
+
+	/**
+	 * Poll latency while another thread is controlling the same adapter
+	 */
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(1)
+	public List<Statistics> contendedPoll(DeviceState state) throws Exception {
+		return state.communicator.getMultipleStatistics();
+	}
+
+	/**
+	 * Control latency while another thread is polling the same adapter
+	 */
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(1)
+	public void contendedControl(DeviceState state) throws Exception {
+		toggleOutlet(state);
+	}
+
+	/**
+	 * Latency of opening and closing a session with the connection mode, login included
+	 */
+	@Benchmark
+	public void connectionModeConnect(ConnectionModeState state) throws Exception {
+		AtenPDUCommunicator communicator = createCommunicator(state);
+		try {
+			communicator.connect();
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Full poll latency over the established session of the connection mode
+	 */
+	@Benchmark
+	public List<Statistics> connectionModePoll(ConnectionModeState state) throws Exception {
+		return state.communicator.getMultipleStatistics();
+	}
+
+	/**
+	 * Poll throughput of several adapter instances sharing one node
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Threads(8)
+	public List<Statistics> fleetPoll(FleetState state) throws Exception {
+		return state.communicator.getMultipleStatistics();
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUModel;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUModelEnum;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUMonitoringCommand;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUResponseParser;
+
+/**
+ * AtenPDUResponseParserBenchmark measures the parsing cost of a pipelined outlet status response,
+ * run with "-prof gc" to check the allocation rate of the polling hot path
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class AtenPDUResponseParserBenchmark {
+	private final List<AtenPDUMonitoringCommand> commands = new AtenPDUModel(AtenPDUModelEnum.PE4104G, false).getMonitoringCommands();
+	private final String response = "read status o01 simple\r\n on\r\n\r\n> read status o02 simple\r\n off\r\n\r\n> "
+			+ "read status o03 simple\r\n on\r\n\r\n> read status o04 simple\r\n on\r\n\r\n> ";
+
+	/**
+	 * Locate every reply of the pipelined response and parse its outlet status
+	 */
+	@Benchmark
+	public void parsePipelinedResponse(Blackhole blackhole) {
+		int[] replies = AtenPDUResponseParser.locateReplies(response, commands);
+		for (int i = 0; i < commands.size(); i++) {
+			blackhole.consume(AtenPDUResponseParser.parseOutletStatus(response, replies[2 * i], replies[2 * i + 1]));
+		}
+	}
+}
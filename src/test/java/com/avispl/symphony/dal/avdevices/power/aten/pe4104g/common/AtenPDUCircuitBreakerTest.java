@@ -0,0 +1,78 @@
+/*
+ *
+ *  * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ *
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AtenPDUCircuitBreakerTest for unit test of AtenPDUCircuitBreaker
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AtenPDUCircuitBreakerTest {
+
+	/**
+	 * Test the breaker reaching its failure threshold
+	 *
+	 * Expect the breaker opens at the threshold and moves to half-open once the backoff elapsed
+	 */
+	@Test
+	void testOpenAtThreshold() {
+		AtenPDUCircuitBreaker circuitBreaker = new AtenPDUCircuitBreaker(2, 1000, 8000);
+		circuitBreaker.recordFailure(0);
+		Assertions.assertEquals(AtenPDUCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		circuitBreaker.recordFailure(0);
+		Assertions.assertEquals(AtenPDUCircuitBreaker.State.OPEN, circuitBreaker.getState());
+		Assertions.assertFalse(circuitBreaker.allowRequest(999));
+
+		Assertions.assertTrue(circuitBreaker.allowRequest(1000));
+		Assertions.assertEquals(AtenPDUCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+	}
+
+	/**
+	 * Test a failed probe of a half-open breaker
+	 *
+	 * Expect the breaker opens again with a doubled backoff, bounded by the maximum backoff
+	 */
+	@Test
+	void testBackoffDoubling() {
+		AtenPDUCircuitBreaker circuitBreaker = new AtenPDUCircuitBreaker(1, 1000, 3000);
+		circuitBreaker.recordFailure(0);
+		Assertions.assertTrue(circuitBreaker.allowRequest(1000));
+		circuitBreaker.recordFailure(1000);
+		Assertions.assertFalse(circuitBreaker.allowRequest(2999));
+		Assertions.assertTrue(circuitBreaker.allowRequest(3000));
+		circuitBreaker.recordFailure(3000);
+		Assertions.assertFalse(circuitBreaker.allowRequest(5999));
+		Assertions.assertTrue(circuitBreaker.allowRequest(6000));
+	}
+
+	/**
+	 * Test a successful probe of a half-open breaker
+	 *
+	 * Expect the breaker is closed and the next failures start again from the threshold and the initial backoff
+	 */
+	@Test
+	void testCloseOnSuccess() {
+		AtenPDUCircuitBreaker circuitBreaker = new AtenPDUCircuitBreaker(1, 1000, 8000);
+		circuitBreaker.recordFailure(0);
+		circuitBreaker.halfOpen();
+		Assertions.assertTrue(circuitBreaker.allowRequest(0));
+		circuitBreaker.recordSuccess();
+		Assertions.assertEquals(AtenPDUCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		Assertions.assertEquals(0, circuitBreaker.getConsecutiveFailures());
+
+		circuitBreaker.recordFailure(5000);
+		Assertions.assertFalse(circuitBreaker.allowRequest(5999));
+		Assertions.assertTrue(circuitBreaker.allowRequest(6000));
+	}
+}
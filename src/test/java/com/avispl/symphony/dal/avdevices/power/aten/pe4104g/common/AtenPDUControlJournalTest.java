@@ -0,0 +1,82 @@
+/*
+ *
+ *  * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ *
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * AtenPDUControlJournalTest for unit test of AtenPDUControlJournal
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AtenPDUControlJournalTest {
+
+	/**
+	 * Test the controls left unfinished when the journal is closed
+	 *
+	 * Expect only the requested controls without completion are returned when the journal is opened again
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testPendingControls(@TempDir Path journalDirectory) throws Exception {
+		Path journalPath = journalDirectory.resolve("pending.journal");
+		AtenPDUControlJournal journal = new AtenPDUControlJournal(journalPath, 1048576, 1);
+		journal.open();
+		long id = journal.request("Outlet1", "0");
+		journal.complete(id, AtenPDUControlJournal.Status.SUCCEEDED, null);
+		id = journal.request("Outlet2", "1");
+		journal.complete(id, AtenPDUControlJournal.Status.ABANDONED, "Superseded by a reboot");
+		journal.request("Outlet3", "0");
+		journal.close();
+
+		journal = new AtenPDUControlJournal(journalPath, 1048576, 1);
+		List<AtenPDUControlJournal.Entry> pendingEntries = journal.open();
+		journal.close();
+		Assertions.assertEquals(1, pendingEntries.size());
+		Assertions.assertEquals("Outlet3", pendingEntries.get(0).getProperty());
+		Assertions.assertEquals("0", pendingEntries.get(0).getValue());
+	}
+
+	/**
+	 * Test the rotation of a full control journal with 2 backup files
+	 *
+	 * Expect only 2 backup files are kept and the pending controls are copied to the new journal
+	 * @throws Exception if an error occurs during the test execution.
+	 */
+	@Test
+	void testRotation(@TempDir Path journalDirectory) throws Exception {
+		Path journalPath = journalDirectory.resolve("rotation.journal");
+		AtenPDUControlJournal journal = new AtenPDUControlJournal(journalPath, 1, 2);
+		journal.open();
+		long id = journal.request("Outlet1", "0");
+		journal.complete(id, AtenPDUControlJournal.Status.SUCCEEDED, null);
+		journal.request("Outlet2", "0");
+		journal.request("Outlet3", "0");
+		journal.request("Outlet4", "0");
+		journal.close();
+		Assertions.assertTrue(Files.exists(journalDirectory.resolve("rotation.journal.1")));
+		Assertions.assertTrue(Files.exists(journalDirectory.resolve("rotation.journal.2")));
+		Assertions.assertFalse(Files.exists(journalDirectory.resolve("rotation.journal.3")));
+
+		journal = new AtenPDUControlJournal(journalPath, 1048576, 2);
+		List<AtenPDUControlJournal.Entry> pendingEntries = journal.open();
+		journal.close();
+		Assertions.assertEquals(3, pendingEntries.size());
+		Assertions.assertEquals("Outlet2", pendingEntries.get(0).getProperty());
+		Assertions.assertEquals("Outlet4", pendingEntries.get(2).getProperty());
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ *
+ *  * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ *
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AtenPDULatencyHistogramTest for unit test of AtenPDULatencyHistogram
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AtenPDULatencyHistogramTest {
+
+	/**
+	 * Test the percentiles of 100 samples with 10 slow ones
+	 *
+	 * Expect the median and the 90th percentile in the fast bucket and the 99th percentile in the slow bucket
+	 */
+	@Test
+	void testPercentiles() {
+		AtenPDULatencyHistogram histogram = new AtenPDULatencyHistogram();
+		Assertions.assertEquals(0, histogram.getPercentile(0.5));
+		for (int i = 0; i < 90; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(3), false);
+		}
+		for (int i = 0; i < 10; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(150), true);
+		}
+		Assertions.assertEquals(100, histogram.getCount());
+		Assertions.assertEquals(10, histogram.getErrors());
+		Assertions.assertEquals(5, histogram.getPercentile(0.5));
+		Assertions.assertEquals(5, histogram.getPercentile(0.9));
+		Assertions.assertEquals(200, histogram.getPercentile(0.99));
+	}
+
+	/**
+	 * Test a sample slower than the last finite bucket
+	 *
+	 * Expect the percentile is reported as the last finite bound
+	 */
+	@Test
+	void testOverflowBucket() {
+		AtenPDULatencyHistogram histogram = new AtenPDULatencyHistogram();
+		histogram.record(TimeUnit.SECONDS.toNanos(60), false);
+		Assertions.assertEquals(30000, histogram.getPercentile(1));
+	}
+
+	/**
+	 * Test draining the histogram between two reporting periods
+	 *
+	 * Expect the drained histogram holds the samples recorded so far and the histogram starts empty again
+	 */
+	@Test
+	void testDrain() {
+		AtenPDULatencyHistogram histogram = new AtenPDULatencyHistogram();
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(15), true);
+		histogram.record(TimeUnit.MILLISECONDS.toNanos(15), false);
+		AtenPDULatencyHistogram interval = histogram.drain();
+		Assertions.assertEquals(2, interval.getCount());
+		Assertions.assertEquals(1, interval.getErrors());
+		Assertions.assertEquals(20, interval.getPercentile(0.5));
+		Assertions.assertEquals(0, histogram.getCount());
+		Assertions.assertEquals(0, histogram.getErrors());
+		Assertions.assertEquals(0, histogram.getPercentile(0.5));
+	}
+}
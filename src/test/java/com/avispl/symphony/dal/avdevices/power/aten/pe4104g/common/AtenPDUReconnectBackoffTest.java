@@ -0,0 +1,61 @@
+/*
+ *
+ *  * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ *
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AtenPDUReconnectBackoffTest for unit test of AtenPDUReconnectBackoff
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AtenPDUReconnectBackoffTest {
+
+	/**
+	 * Test consecutive failures to open the session
+	 *
+	 * Expect the jittered backoff doubles with every failure between half and all of it, bounded by the maximum backoff
+	 */
+	@Test
+	void testExponentialBackoff() {
+		AtenPDUReconnectBackoff backoff = new AtenPDUReconnectBackoff(1000, 4000);
+		Assertions.assertTrue(backoff.allowAttempt(0));
+		long[] expectedBackoffs = { 1000, 2000, 4000, 4000 };
+		for (long expectedBackoff : expectedBackoffs) {
+			backoff.recordFailure(0);
+			Assertions.assertTrue(backoff.getRetryTime() >= expectedBackoff / 2);
+			Assertions.assertTrue(backoff.getRetryTime() <= expectedBackoff);
+			Assertions.assertFalse(backoff.allowAttempt(expectedBackoff / 2 - 1));
+			Assertions.assertTrue(backoff.allowAttempt(expectedBackoff));
+		}
+		Assertions.assertEquals(expectedBackoffs.length, backoff.getConsecutiveFailures());
+	}
+
+	/**
+	 * Test a session opened after failures
+	 *
+	 * Expect the next attempt is allowed immediately and the next failure starts again from the initial backoff
+	 */
+	@Test
+	void testResetOnSuccess() {
+		AtenPDUReconnectBackoff backoff = new AtenPDUReconnectBackoff(1000, 60000);
+		for (int i = 0; i < 5; i++) {
+			backoff.recordFailure(0);
+		}
+		backoff.recordSuccess();
+		Assertions.assertEquals(0, backoff.getConsecutiveFailures());
+		Assertions.assertTrue(backoff.allowAttempt(0));
+
+		backoff.recordFailure(0);
+		Assertions.assertTrue(backoff.getRetryTime() <= 1000);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ *
+ *  * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ *
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AtenPDUResponseParserTest for unit test of AtenPDUResponseParser
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AtenPDUResponseParserTest {
+	private final List<AtenPDUMonitoringCommand> commands = new AtenPDUModel(AtenPDUModelEnum.PE4104G, false).getMonitoringCommands();
+
+	/**
+	 * Test parsing a pipelined response with a reply for every command
+	 *
+	 * Expect every reply is located and its outlet status parsed
+	 */
+	@Test
+	void testPipelinedResponse() {
+		StringBuilder response = new StringBuilder();
+		for (int i = 0; i < commands.size(); i++) {
+			response.append(commands.get(i).getCommand()).append(AtenPDUConstant.LINE_SEPARATOR).append(i % 2 == 0 ? " on" : " off")
+					.append(AtenPDUConstant.LINE_SEPARATOR).append(AtenPDUConstant.LINE_SEPARATOR).append("> ");
+		}
+		int[] replies = AtenPDUResponseParser.locateReplies(response.toString(), commands);
+		for (int i = 0; i < commands.size(); i++) {
+			Assertions.assertEquals(i % 2 == 0 ? OutletStatusEnum.ON : OutletStatusEnum.OFF,
+					AtenPDUResponseParser.parseOutletStatus(response.toString(), replies[2 * i], replies[2 * i + 1]));
+		}
+	}
+
+	/**
+	 * Test parsing a pipelined response cut before the prompt of the last reply
+	 *
+	 * Expect the last reply isn't located while the previous ones are
+	 */
+	@Test
+	void testTruncatedResponse() {
+		String response = "read status o01 simple\r\n on\r\n\r\n> read status o02 simple\r\n o";
+		int[] replies = AtenPDUResponseParser.locateCommandReplies(response, Arrays.asList("read status o01 simple", "read status o02 simple"));
+		Assertions.assertTrue(replies[0] >= 0);
+		Assertions.assertEquals(OutletStatusEnum.ON, AtenPDUResponseParser.parseOutletStatus(response, replies[0], replies[1]));
+		Assertions.assertEquals(-1, replies[2]);
+		Assertions.assertEquals(-1, replies[3]);
+	}
+
+	/**
+	 * Test parsing a reply which doesn't echo its command
+	 *
+	 * Expect the reply isn't attributed to the command
+	 */
+	@Test
+	void testMissingEcho() {
+		String response = "read status o02 simple\r\n on\r\n\r\n> ";
+		int[] replies = AtenPDUResponseParser.locateCommandReplies(response, Arrays.asList("read status o01 simple"));
+		Assertions.assertEquals(-1, replies[0]);
+		Assertions.assertFalse(AtenPDUResponseParser.containsEcho(response, 0, response.length(), "read status o01 simple"));
+		Assertions.assertTrue(AtenPDUResponseParser.containsEcho(response, 0, response.length(), "read status o02 simple"));
+	}
+
+	/**
+	 * Test validating meter readings
+	 *
+	 * Expect decimal numbers are trimmed and anything else is rejected
+	 */
+	@Test
+	void testMeterValue() {
+		String response = "read meter dev curr simple\r\n 1.25\r\n\r\n> ";
+		Assertions.assertEquals("1.25", AtenPDUResponseParser.parseMeterValue(response, 0, response.length() - 3));
+		Assertions.assertEquals("-3", AtenPDUResponseParser.parseMeterValue(" -3 "));
+		Assertions.assertNull(AtenPDUResponseParser.parseMeterValue("1-3"));
+		Assertions.assertNull(AtenPDUResponseParser.parseMeterValue("."));
+		Assertions.assertNull(AtenPDUResponseParser.parseMeterValue("Command incorrect"));
+		Assertions.assertNull(AtenPDUResponseParser.parseMeterValue(null));
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ *
+ *  * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ *
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AtenPDUTimeSeriesTest for unit test of AtenPDUTimeSeries
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AtenPDUTimeSeriesTest {
+
+	/**
+	 * Test the aggregates of the samples within a window
+	 *
+	 * Expect only the samples since the start of the window are aggregated
+	 */
+	@Test
+	void testWindowAggregates() {
+		AtenPDUTimeSeries timeSeries = new AtenPDUTimeSeries(10);
+		Assertions.assertTrue(Double.isNaN(timeSeries.getAverage(0)));
+		timeSeries.add(1000, 100);
+		timeSeries.add(2000, 10);
+		timeSeries.add(3000, 30);
+		timeSeries.add(4000, 20);
+		Assertions.assertEquals(10, timeSeries.getMin(2000));
+		Assertions.assertEquals(30, timeSeries.getMax(2000));
+		Assertions.assertEquals(20, timeSeries.getAverage(2000));
+		Assertions.assertEquals(100, timeSeries.getMax(0));
+	}
+
+	/**
+	 * Test adding more samples than the capacity
+	 *
+	 * Expect the oldest samples are overwritten
+	 */
+	@Test
+	void testOverwriteOldestSamples() {
+		AtenPDUTimeSeries timeSeries = new AtenPDUTimeSeries(3);
+		for (int i = 1; i <= 5; i++) {
+			timeSeries.add(i * 1000L, i);
+		}
+		Assertions.assertEquals(3, timeSeries.size());
+		Assertions.assertEquals(3, timeSeries.getMin(0));
+		Assertions.assertEquals(5, timeSeries.getMax(0));
+
+		timeSeries.clear();
+		Assertions.assertEquals(0, timeSeries.size());
+	}
+
+	/**
+	 * Test counting the outlet state transitions
+	 *
+	 * Expect every change between consecutive samples of the window is counted
+	 */
+	@Test
+	void testCountTransitions() {
+		AtenPDUTimeSeries timeSeries = new AtenPDUTimeSeries(10);
+		double[] states = { 1, 1, 0, 0, 1, 0 };
+		for (int i = 0; i < states.length; i++) {
+			timeSeries.add(i * 1000L, states[i]);
+		}
+		Assertions.assertEquals(3, timeSeries.countTransitions(0));
+		Assertions.assertEquals(2, timeSeries.countTransitions(3000));
+	}
+
+	/**
+	 * Test creating a time series without capacity
+	 *
+	 * Expect the capacity is rejected
+	 */
+	@Test
+	void testInvalidCapacity() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new AtenPDUTimeSeries(0));
+	}
+}
@@ -0,0 +1,647 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.channel.ChannelSession;
+import org.apache.sshd.server.command.Command;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+
+/**
+ * AtenPDUSimulator is an embedded SSH and Telnet server emulating the command line interface of the PE4104G
+ *
+ * Supported commands are:
+ * read status oNN simple
+ * sw oNN imme on/off
+ * reboot
+ *
+ * Every command can be configured with an additional latency and a failure mode to measure the adapter behavior
+ * against a slow or broken device without the hardware. A command can also be held until the test releases it,
+ * so the tests can check what the adapter does while a request is in flight without relying on timings.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUSimulator implements AutoCloseable {
+
+	/**
+	 * Failure modes which can be configured for a command
+	 */
+	public enum FailureMode {
+		/**
+		 * The command is answered normally
+		 */
+		NONE,
+		/**
+		 * The command is answered with the device error message
+		 */
+		ERROR,
+		/**
+		 * The command is never answered, the client will run into its timeout
+		 */
+		NO_RESPONSE
+	}
+
+	public static final String PROMPT = "> ";
+	public static final String LINE_SEPARATOR = "\r\n";
+	public static final String COMMAND_INCORRECT = "Command incorrect";
+	public static final String READ_STATUS = "read status";
+	public static final String READ_METER = "read meter";
+	public static final String VOLTAGE = "120.0";
+	public static final double OUTLET_CURRENT = 0.5;
+	public static final String SWITCH = "sw";
+	public static final String REBOOT = "reboot";
+	public static final String TELNET_LOGIN_PROMPT = "Login: ";
+	public static final String TELNET_PASSWORD_PROMPT = "Password: ";
+	public static final String TELNET_LOGIN_FAILED = "Login failed";
+
+	private static final Pattern READ_STATUS_PATTERN = Pattern.compile("read status o(\\d{2}) simple");
+	private static final Pattern READ_METER_PATTERN = Pattern.compile("read meter (dev|olt o(\\d{2})) (curr|volt|pow|pd) simple");
+	private static final Pattern SWITCH_PATTERN = Pattern.compile("sw o(\\d{2}) imme (on|off)");
+
+	private final int outletCount;
+	private final String login;
+	private final String password;
+	private final Map<Integer, Boolean> outletStates = new ConcurrentHashMap<>();
+	private final Map<String, Long> commandLatencies = new ConcurrentHashMap<>();
+	private final Map<String, FailureMode> commandFailures = new ConcurrentHashMap<>();
+	private final Map<String, CommandHold> commandHolds = new ConcurrentHashMap<>();
+	private final List<String> commandLog = new ArrayList<>();
+	private final AtomicLong commandCount = new AtomicLong();
+	private final AtomicLong loginCount = new AtomicLong();
+	private final AtomicLong telnetConnectionCount = new AtomicLong();
+	private volatile long defaultLatency;
+	private final Set<Socket> telnetSessions = ConcurrentHashMap.newKeySet();
+	private SshServer sshServer;
+	private ServerSocket telnetServer;
+
+	/**
+	 * Create a simulator of a 4 outlets device with all outlets switched on
+	 *
+	 * @param login user name accepted by the simulator
+	 * @param password password accepted by the simulator
+	 */
+	public AtenPDUSimulator(String login, String password) {
+		this(login, password, 4);
+	}
+
+	/**
+	 * Create a simulator with all outlets switched on
+	 *
+	 * @param login user name accepted by the simulator
+	 * @param password password accepted by the simulator
+	 * @param outletCount number of outlets of the simulated device
+	 */
+	public AtenPDUSimulator(String login, String password, int outletCount) {
+		this.login = login;
+		this.password = password;
+		this.outletCount = outletCount;
+		for (int outlet = 1; outlet <= outletCount; outlet++) {
+			outletStates.put(outlet, true);
+		}
+	}
+
+	/**
+	 * Start the SSH server on a random local port
+	 *
+	 * @return the port the simulator is listening on
+	 * @throws IOException if the server can't be started
+	 */
+	public int start() throws IOException {
+		sshServer = SshServer.setUpDefaultServer();
+		sshServer.setHost("127.0.0.1");
+		sshServer.setPort(0);
+		sshServer.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+		sshServer.setPasswordAuthenticator((username, pass, session) -> login.equals(username) && password.equals(pass));
+		sshServer.setShellFactory(channel -> new SimulatedShell());
+		sshServer.start();
+		return sshServer.getPort();
+	}
+
+	/**
+	 * Start the Telnet server on a random local port, the shell is the one of the SSH server
+	 *
+	 * @return the port the Telnet server is listening on
+	 * @throws IOException if the server can't be started
+	 */
+	public int startTelnet() throws IOException {
+		telnetServer = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		Thread acceptThread = new Thread(this::acceptTelnetSessions, "aten-pdu-simulator-telnet");
+		acceptThread.setDaemon(true);
+		acceptThread.start();
+		return telnetServer.getLocalPort();
+	}
+
+	/**
+	 * Retrieves the port the simulator is listening on
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return sshServer.getPort();
+	}
+
+	/**
+	 * Sets the latency applied to every command
+	 *
+	 * @param latency latency in milliseconds
+	 */
+	public void setDefaultLatency(long latency) {
+		this.defaultLatency = latency;
+	}
+
+	/**
+	 * Sets the latency applied to the commands starting with the given prefix
+	 *
+	 * @param commandPrefix prefix of the command e.g. {@link #READ_STATUS}
+	 * @param latency latency in milliseconds
+	 */
+	public void setCommandLatency(String commandPrefix, long latency) {
+		commandLatencies.put(commandPrefix, latency);
+	}
+
+	/**
+	 * Sets the failure mode of the commands starting with the given prefix
+	 *
+	 * @param commandPrefix prefix of the command e.g. {@link #SWITCH}
+	 * @param failureMode the failure mode
+	 */
+	public void setCommandFailure(String commandPrefix, FailureMode failureMode) {
+		commandFailures.put(commandPrefix, failureMode);
+	}
+
+	/**
+	 * Hold the commands starting with the given prefix until {@link #releaseCommand(String)} is called,
+	 * the held commands are neither executed nor answered in the meantime
+	 *
+	 * @param commandPrefix prefix of the command e.g. {@link #READ_STATUS}
+	 */
+	public void holdCommand(String commandPrefix) {
+		commandHolds.put(commandPrefix, new CommandHold());
+	}
+
+	/**
+	 * Wait until a command held by {@link #holdCommand(String)} is received
+	 *
+	 * @param commandPrefix prefix of the held command
+	 * @param timeout maximum time to wait in milliseconds
+	 * @return true if a held command is received within the timeout
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public boolean awaitHeldCommand(String commandPrefix, long timeout) throws InterruptedException {
+		CommandHold hold = commandHolds.get(commandPrefix);
+		return hold != null && hold.received.await(timeout, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Execute the commands held by {@link #holdCommand(String)} and stop holding the commands with the given prefix
+	 *
+	 * @param commandPrefix prefix of the held command
+	 */
+	public void releaseCommand(String commandPrefix) {
+		CommandHold hold = commandHolds.remove(commandPrefix);
+		if (hold != null) {
+			hold.released.countDown();
+		}
+	}
+
+	/**
+	 * Clear all configured latencies and failures and release the held commands
+	 */
+	public void reset() {
+		defaultLatency = 0;
+		commandLatencies.clear();
+		commandFailures.clear();
+		for (String commandPrefix : commandHolds.keySet()) {
+			releaseCommand(commandPrefix);
+		}
+	}
+
+	/**
+	 * Retrieves the state of an outlet
+	 *
+	 * @param outlet outlet number starting from 1
+	 * @return true if the outlet is switched on
+	 */
+	public boolean isOutletOn(int outlet) {
+		return outletStates.getOrDefault(outlet, false);
+	}
+
+	/**
+	 * Sets the state of an outlet
+	 *
+	 * @param outlet outlet number starting from 1
+	 * @param on true to switch the outlet on
+	 */
+	public void setOutletOn(int outlet, boolean on) {
+		outletStates.put(outlet, on);
+	}
+
+	/**
+	 * Retrieves the number of commands received since the simulator started
+	 *
+	 * @return number of commands
+	 */
+	public long getCommandCount() {
+		return commandCount.get();
+	}
+
+	/**
+	 * Retrieves the command lines received since the simulator started, in the order they were received
+	 *
+	 * @return copy of the received command lines
+	 */
+	public List<String> getCommandLog() {
+		synchronized (commandLog) {
+			return new ArrayList<>(commandLog);
+		}
+	}
+
+	/**
+	 * Retrieves the number of shells opened since the simulator started
+	 *
+	 * @return number of logins
+	 */
+	public long getLoginCount() {
+		return loginCount.get();
+	}
+
+	/**
+	 * Retrieves the number of Telnet connections accepted since the simulator started, including the failed logins
+	 *
+	 * @return number of connections
+	 */
+	public long getTelnetConnectionCount() {
+		return telnetConnectionCount.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		reset();
+		if (sshServer != null) {
+			sshServer.stop(true);
+		}
+		if (telnetServer != null) {
+			telnetServer.close();
+			for (Socket session : telnetSessions) {
+				session.close();
+			}
+		}
+	}
+
+	/**
+	 * Accept the Telnet sessions until the server is closed, every session is served by its own thread
+	 */
+	private void acceptTelnetSessions() {
+		try {
+			while (!telnetServer.isClosed()) {
+				Socket session = telnetServer.accept();
+				telnetSessions.add(session);
+				telnetConnectionCount.incrementAndGet();
+				Thread thread = new Thread(() -> serveTelnetSession(session), "aten-pdu-simulator-telnet-session");
+				thread.setDaemon(true);
+				thread.start();
+			}
+		} catch (IOException e) {
+			// the server is closed
+		}
+	}
+
+	/**
+	 * Prompt for the credentials of a Telnet session and run the shell once they are accepted
+	 *
+	 * @param session the Telnet connection
+	 */
+	private void serveTelnetSession(Socket session) {
+		try {
+			InputStream in = session.getInputStream();
+			OutputStream out = session.getOutputStream();
+			while (true) {
+				writeTelnet(out, TELNET_LOGIN_PROMPT);
+				String user = readTelnetLine(in);
+				writeTelnet(out, LINE_SEPARATOR + TELNET_PASSWORD_PROMPT);
+				String pass = readTelnetLine(in);
+				if (user == null || pass == null) {
+					return;
+				}
+				if (login.equals(user) && password.equals(pass)) {
+					break;
+				}
+				writeTelnet(out, LINE_SEPARATOR + TELNET_LOGIN_FAILED + LINE_SEPARATOR);
+			}
+			writeTelnet(out, LINE_SEPARATOR);
+			SimulatedShell shell = new SimulatedShell();
+			shell.setInputStream(in);
+			shell.setOutputStream(out);
+			loginCount.incrementAndGet();
+			shell.running = true;
+			shell.run();
+		} catch (IOException e) {
+			// the client closed the session
+		} finally {
+			telnetSessions.remove(session);
+			try {
+				session.close();
+			} catch (IOException e) {
+				// the session is already closed
+			}
+		}
+	}
+
+	/**
+	 * Read a line typed by the Telnet client up to its line feed, so nothing of the line is left for the shell
+	 *
+	 * @param in the input of the session
+	 * @return the line, null if the client closed the session
+	 */
+	private static String readTelnetLine(InputStream in) throws IOException {
+		StringBuilder line = new StringBuilder();
+		int read;
+		while ((read = in.read()) != -1) {
+			if (read == '\n') {
+				return line.toString().trim();
+			}
+			line.append((char) read);
+		}
+		return null;
+	}
+
+	/**
+	 * Write text to a Telnet client
+	 *
+	 * @param out the output of the session
+	 * @param text the text to write
+	 */
+	private static void writeTelnet(OutputStream out, String text) throws IOException {
+		out.write(text.getBytes(StandardCharsets.US_ASCII));
+		out.flush();
+	}
+
+	/**
+	 * Execute a command line and build the response text, without echo and prompt
+	 *
+	 * @param commandLine the command line received from the client
+	 * @return the response, null if the command must not be answered
+	 */
+	String execute(String commandLine) {
+		commandCount.incrementAndGet();
+		synchronized (commandLog) {
+			commandLog.add(commandLine);
+		}
+		String prefix = commandPrefix(commandLine);
+		CommandHold hold = commandHolds.get(prefix);
+		if (hold != null) {
+			hold.received.countDown();
+			try {
+				hold.released.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		long latency = commandLatencies.getOrDefault(prefix, defaultLatency);
+		if (latency > 0) {
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		FailureMode failureMode = commandFailures.getOrDefault(prefix, FailureMode.NONE);
+		if (failureMode == FailureMode.NO_RESPONSE) {
+			return null;
+		}
+		if (failureMode == FailureMode.ERROR) {
+			return COMMAND_INCORRECT;
+		}
+
+		Matcher matcher = READ_STATUS_PATTERN.matcher(commandLine);
+		if (matcher.matches() && isValidOutlet(matcher.group(1))) {
+			return " " + (isOutletOn(Integer.parseInt(matcher.group(1))) ? "on" : "off");
+		}
+		matcher = READ_METER_PATTERN.matcher(commandLine);
+		if (matcher.matches() && (matcher.group(2) == null || isValidOutlet(matcher.group(2)))) {
+			return " " + readMeter(matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2)), matcher.group(3));
+		}
+		matcher = SWITCH_PATTERN.matcher(commandLine);
+		if (matcher.matches() && isValidOutlet(matcher.group(1))) {
+			setOutletOn(Integer.parseInt(matcher.group(1)), "on".equals(matcher.group(2)));
+			return " Outlet<" + matcher.group(1) + "> command is setting";
+		}
+		if (REBOOT.equals(commandLine)) {
+			return " System is rebooting";
+		}
+		return COMMAND_INCORRECT;
+	}
+
+	/**
+	 * Retrieves the number of outlets of the simulated device
+	 *
+	 * @return number of outlets
+	 */
+	public int getOutletCount() {
+		return outletCount;
+	}
+
+	/**
+	 * Compute a meter reading, every outlet switched on draws {@link #OUTLET_CURRENT} at {@link #VOLTAGE}
+	 *
+	 * @param outlet outlet number, 0 for the whole device
+	 * @param quantity the metered quantity [curr/volt/pow/pd]
+	 * @return the reading
+	 */
+	public String readMeter(int outlet, String quantity) {
+		if ("volt".equals(quantity)) {
+			return VOLTAGE;
+		}
+		int onCount = 0;
+		for (int i = 1; i <= outletCount; i++) {
+			if ((outlet == 0 || outlet == i) && isOutletOn(i)) {
+				onCount++;
+			}
+		}
+		double current = onCount * OUTLET_CURRENT;
+		switch (quantity) {
+			case "curr":
+				return String.format("%.2f", current);
+			case "pow":
+				return String.format("%.1f", current * Double.parseDouble(VOLTAGE));
+			default:
+				return String.format("%.3f", current * Double.parseDouble(VOLTAGE) / 1000);
+		}
+	}
+
+	/**
+	 * Check if the outlet of a command exists on the simulated device
+	 *
+	 * @param outlet outlet number with two digits
+	 * @return true if the outlet exists
+	 */
+	private boolean isValidOutlet(String outlet) {
+		int number = Integer.parseInt(outlet);
+		return number >= 1 && number <= outletCount;
+	}
+
+	/**
+	 * Retrieve the prefix a latency or failure can be configured for
+	 *
+	 * @param commandLine the command line received from the client
+	 * @return the command prefix
+	 */
+	private String commandPrefix(String commandLine) {
+		if (commandLine.startsWith(READ_STATUS)) {
+			return READ_STATUS;
+		}
+		if (commandLine.startsWith(READ_METER)) {
+			return READ_METER;
+		}
+		int separator = commandLine.indexOf(' ');
+		return separator < 0 ? commandLine : commandLine.substring(0, separator);
+	}
+
+	/**
+	 * Commands of a prefix held until the test releases them
+	 */
+	private static class CommandHold {
+		private final CountDownLatch received = new CountDownLatch(1);
+		private final CountDownLatch released = new CountDownLatch(1);
+	}
+
+	/**
+	 * Interactive shell of a single SSH session
+	 */
+	private class SimulatedShell implements Command, Runnable {
+		private InputStream in;
+		private OutputStream out;
+		private ExitCallback exitCallback;
+		private Thread thread;
+		private volatile boolean running;
+
+		@Override
+		public void setInputStream(InputStream in) {
+			this.in = in;
+		}
+
+		@Override
+		public void setOutputStream(OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void setErrorStream(OutputStream err) {
+			// the device doesn't write anything to stderr
+		}
+
+		@Override
+		public void setExitCallback(ExitCallback exitCallback) {
+			this.exitCallback = exitCallback;
+		}
+
+		@Override
+		public void start(ChannelSession channel, Environment env) {
+			loginCount.incrementAndGet();
+			running = true;
+			thread = new Thread(this, "aten-pdu-simulator-shell");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		@Override
+		public void destroy(ChannelSession channel) {
+			running = false;
+			if (thread != null) {
+				thread.interrupt();
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				write(PROMPT);
+				StringBuilder line = new StringBuilder();
+				boolean lastWasCarriageReturn = false;
+				int read;
+				while (running && (read = in.read()) != -1) {
+					char character = (char) read;
+					if (character == '\n' && lastWasCarriageReturn) {
+						lastWasCarriageReturn = false;
+						continue;
+					}
+					lastWasCarriageReturn = character == '\r';
+					if (character != '\r' && character != '\n') {
+						line.append(character);
+						continue;
+					}
+					String commandLine = line.toString().trim();
+					line.setLength(0);
+					if (!handle(commandLine)) {
+						break;
+					}
+				}
+			} catch (IOException e) {
+				// the client closed the session
+			} finally {
+				running = false;
+				if (exitCallback != null) {
+					exitCallback.onExit(0);
+				}
+			}
+		}
+
+		/**
+		 * Handle a command line: echo it, execute it and write the prompt back
+		 *
+		 * @param commandLine the received command line
+		 * @return false if the shell must be closed
+		 */
+		private boolean handle(String commandLine) throws IOException {
+			if (commandLine.isEmpty()) {
+				write(LINE_SEPARATOR + PROMPT);
+				return true;
+			}
+			write(commandLine + LINE_SEPARATOR);
+			String response = execute(commandLine);
+			if (response == null) {
+				return true;
+			}
+			write(response + LINE_SEPARATOR + LINE_SEPARATOR + PROMPT);
+			// the device drops the session while it's rebooting
+			return !REBOOT.equals(commandLine) || COMMAND_INCORRECT.equals(response);
+		}
+
+		/**
+		 * Write text to the client
+		 *
+		 * @param text the text to write
+		 */
+		private void write(String text) throws IOException {
+			out.write(text.getBytes(StandardCharsets.US_ASCII));
+			out.flush();
+		}
+	}
+}
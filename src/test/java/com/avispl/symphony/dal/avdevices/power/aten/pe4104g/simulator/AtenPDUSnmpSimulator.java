@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.power.aten.pe4104g.simulator;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUCommand;
+import com.avispl.symphony.dal.avdevices.power.aten.pe4104g.common.AtenPDUConstant;
+
+/**
+ * AtenPDUSnmpSimulator is an in-process SNMP v2c agent exposing the outlets of an {@link AtenPDUSimulator}
+ * with the default objects of {@link AtenPDUCommand}
+ *
+ * GET reads the outlet states and meters of the simulated device, SET switches its outlets and
+ * {@link #sendOutletNotification(int, int)} sends the state of an outlet as a trap, {@link #sendOutletInform(int, int, long)}
+ * as an inform. The requests with
+ * another community are ignored, so the client runs into its timeout.
+ *
+ * @author agent<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AtenPDUSnmpSimulator implements CommandResponder, AutoCloseable {
+	public static final String OUTLET_NOTIFICATION_OID = "1.3.6.1.4.1.21317.0.1";
+
+	private final AtenPDUSimulator device;
+	private final String community;
+	private final AtomicLong requestCount = new AtomicLong();
+	private Snmp snmp;
+	private int port;
+
+	/**
+	 * Create a new AtenPDUSnmpSimulator
+	 *
+	 * @param device the simulated device
+	 * @param community the community accepted by the agent
+	 */
+	public AtenPDUSnmpSimulator(AtenPDUSimulator device, String community) {
+		this.device = device;
+		this.community = community;
+	}
+
+	/**
+	 * Start the agent on a random local UDP port
+	 *
+	 * @return the port the agent is listening on
+	 * @throws IOException if the agent can't be started
+	 */
+	public int start() throws IOException {
+		DefaultUdpTransportMapping transportMapping = new DefaultUdpTransportMapping(new UdpAddress("127.0.0.1/0"));
+		snmp = new Snmp(transportMapping);
+		snmp.addCommandResponder(this);
+		snmp.listen();
+		port = transportMapping.getListenAddress().getPort();
+		return port;
+	}
+
+	/**
+	 * Retrieves the port the agent is listening on
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return port;
+	}
+
+	/**
+	 * Retrieves the number of requests answered since the agent started
+	 *
+	 * @return number of requests
+	 */
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 * Send a v2c trap carrying the current state of an outlet, as the device does when an outlet is switched
+	 *
+	 * @param listenerPort the local UDP port of the notification listener
+	 * @param outlet the outlet number
+	 * @throws IOException if the trap can't be sent
+	 */
+	public void sendOutletNotification(int listenerPort, int outlet) throws IOException {
+		snmp.send(createOutletNotification(PDU.TRAP, outlet), createNotificationTarget(listenerPort));
+	}
+
+	/**
+	 * Send a v2c inform carrying the current state of an outlet, without retry
+	 *
+	 * @param listenerPort the local UDP port of the notification listener
+	 * @param outlet the outlet number
+	 * @param timeout time in milliseconds to wait for the acknowledgement
+	 * @return true if the inform is acknowledged within the timeout
+	 * @throws IOException if the inform can't be sent
+	 */
+	public boolean sendOutletInform(int listenerPort, int outlet, long timeout) throws IOException {
+		CommunityTarget<UdpAddress> target = createNotificationTarget(listenerPort);
+		target.setTimeout(timeout);
+		target.setRetries(0);
+		ResponseEvent<UdpAddress> event = snmp.send(createOutletNotification(PDU.INFORM, outlet), target);
+		return event != null && event.getResponse() != null;
+	}
+
+	/**
+	 * Create a notification carrying the current state of an outlet
+	 *
+	 * @param type {@link PDU#TRAP} or {@link PDU#INFORM}
+	 * @param outlet the outlet number
+	 * @return the notification
+	 */
+	private PDU createOutletNotification(int type, int outlet) {
+		PDU notification = new PDU();
+		notification.setType(type);
+		notification.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks(0)));
+		notification.add(new VariableBinding(SnmpConstants.snmpTrapOID, new OID(OUTLET_NOTIFICATION_OID)));
+		notification.add(new VariableBinding(new OID(AtenPDUCommand.OUTLET_STATUS.getSnmpOid()).append(outlet),
+				new Integer32(device.isOutletOn(outlet) ? AtenPDUConstant.SNMP_OUTLET_ON : AtenPDUConstant.SNMP_OUTLET_OFF)));
+		return notification;
+	}
+
+	/**
+	 * Create the target of the notifications
+	 *
+	 * @param listenerPort the local UDP port of the notification listener
+	 * @return the target
+	 */
+	private CommunityTarget<UdpAddress> createNotificationTarget(int listenerPort) {
+		CommunityTarget<UdpAddress> target = new CommunityTarget<>(new UdpAddress("127.0.0.1/" + listenerPort), new OctetString(community));
+		target.setVersion(SnmpConstants.version2c);
+		return target;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <A extends Address> void processPdu(CommandResponderEvent<A> event) {
+		PDU request = event.getPDU();
+		if (request == null || !community.equals(new String(event.getSecurityName()))) {
+			return;
+		}
+		PDU response = new PDU();
+		response.setType(PDU.RESPONSE);
+		response.setRequestID(request.getRequestID());
+		if (request.getType() == PDU.SET) {
+			for (VariableBinding binding : request.getVariableBindings()) {
+				if (response.getErrorStatus() == PDU.noError && (getOutlet(AtenPDUCommand.OUTLET_STATUS, binding.getOid()) <= 0
+						|| !(binding.getVariable() instanceof Integer32))) {
+					response.setErrorStatus(PDU.notWritable);
+					response.setErrorIndex(response.size() + 1);
+				}
+				response.add(binding);
+			}
+			// a rejected request switches nothing
+			if (response.getErrorStatus() == PDU.noError) {
+				for (VariableBinding binding : request.getVariableBindings()) {
+					device.setOutletOn(getOutlet(AtenPDUCommand.OUTLET_STATUS, binding.getOid()), binding.getVariable().toInt() == AtenPDUConstant.SNMP_OUTLET_ON);
+				}
+			}
+		} else {
+			for (VariableBinding binding : request.getVariableBindings()) {
+				response.add(new VariableBinding(binding.getOid(), readObject(binding.getOid())));
+			}
+		}
+		requestCount.incrementAndGet();
+		try {
+			event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(), event.getSecurityModel(), event.getSecurityName(),
+					event.getSecurityLevel(), response, event.getMaxSizeResponsePDU(), event.getStateReference(), new StatusInformation());
+		} catch (MessageException e) {
+			throw new IllegalStateException("Error when return the SNMP response", e);
+		}
+		event.setProcessed(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		if (snmp != null) {
+			snmp.close();
+			snmp = null;
+		}
+	}
+
+	/**
+	 * Read the value of an object
+	 *
+	 * @param oid the object
+	 * @return the value, noSuchObject if the object doesn't exist
+	 */
+	private Variable readObject(OID oid) {
+		for (AtenPDUCommand command : AtenPDUCommand.values()) {
+			int outlet = getOutlet(command, oid);
+			if (outlet < 0) {
+				continue;
+			}
+			if (command == AtenPDUCommand.OUTLET_STATUS) {
+				return new Integer32(device.isOutletOn(outlet) ? AtenPDUConstant.SNMP_OUTLET_ON : AtenPDUConstant.SNMP_OUTLET_OFF);
+			}
+			return new OctetString(device.readMeter(outlet, getQuantity(command)));
+		}
+		return Null.noSuchObject;
+	}
+
+	/**
+	 * Match an object to a command
+	 *
+	 * @param command the command
+	 * @param oid the object
+	 * @return the outlet number, 0 for a device command, -1 if the object isn't the one of the command
+	 */
+	private int getOutlet(AtenPDUCommand command, OID oid) {
+		if (command.getSnmpOid() == null) {
+			return -1;
+		}
+		OID commandOid = new OID(command.getSnmpOid());
+		if (!command.isPerOutlet()) {
+			return commandOid.equals(oid) ? 0 : -1;
+		}
+		if (oid.size() != commandOid.size() + 1 || !oid.startsWith(commandOid)) {
+			return -1;
+		}
+		int outlet = oid.last();
+		return outlet >= 1 && outlet <= device.getOutletCount() ? outlet : -1;
+	}
+
+	/**
+	 * Retrieve the metered quantity of a meter command
+	 *
+	 * @param command the meter command
+	 * @return the quantity [curr/volt/pow/pd]
+	 */
+	private String getQuantity(AtenPDUCommand command) {
+		String[] words = command.getCommand().split(" ");
+		return words[words.length - 2];
+	}
+}